@@ -0,0 +1,61 @@
+package com.granada.guide.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class CompareResults {
+  private static final double DEFAULT_THRESHOLD = 10.0;
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Uso: CompareResults <base.json> <actual.json> [umbral %]");
+      System.exit(2);
+    }
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+    Map<String, JsonNode> base = load(new File(args[0]));
+    Map<String, JsonNode> current = load(new File(args[1]));
+    int regressions = 0;
+    System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "base", "actual", "delta");
+    for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+      JsonNode before = base.get(entry.getKey());
+      JsonNode metric = entry.getValue().path("primaryMetric");
+      double score = metric.path("score").asDouble();
+      String unit = metric.path("scoreUnit").asText();
+      if (before == null) {
+        System.out.printf("%-70s %14s %14.3f %9s  %s%n", entry.getKey(), "-", score, "nuevo", unit);
+        continue;
+      }
+      double previous = before.path("primaryMetric").path("score").asDouble();
+      double delta = previous == 0 ? 0 : (score - previous) / previous * 100;
+      boolean higherIsBetter = unit.endsWith("/s") || unit.startsWith("ops");
+      boolean regression = higherIsBetter ? delta < -threshold : delta > threshold;
+      if (regression) {
+        regressions++;
+      }
+      System.out.printf("%-70s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), previous, score, delta, unit,
+          regression ? "  REGRESION" : "");
+    }
+    if (regressions > 0) {
+      System.out.printf("%d regresiones por encima del %.1f%%%n", regressions, threshold);
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, JsonNode> load(File file) throws IOException {
+    Map<String, JsonNode> results = new LinkedHashMap<>();
+    for (JsonNode node : new ObjectMapper().readTree(file)) {
+      StringBuilder key = new StringBuilder(node.path("benchmark").asText()
+          .replace("com.granada.guide.", ""));
+      Map<String, String> params = new TreeMap<>();
+      node.path("params").fields().forEachRemaining(e -> params.put(e.getKey(), e.getValue().asText()));
+      params.forEach((name, value) -> key.append(':').append(name).append('=').append(value));
+      results.put(key.toString(), node);
+    }
+    return results;
+  }
+}
@@ -0,0 +1,59 @@
+package com.granada.guide.benchmarks;
+
+import com.granada.guide.util.GeoUtils;
+import java.util.SplittableRandom;
+
+public class GeoAccuracyReport {
+  private static final int POINTS = 200_000;
+  private static final double[] LATITUDES = {0, PlaceFixtures.GRANADA_LAT, 60, 75};
+  private static final double[] RADII = {100, 1_000, 5_000, 20_000, 100_000, 500_000};
+
+  public static void main(String[] args) {
+    SplittableRandom random = new SplittableRandom(42);
+    double[] lats = new double[POINTS];
+    double[] lngs = new double[POINTS];
+    double[] exact = new double[POINTS];
+    double[] approx = new double[POINTS];
+    int[] indexes = new int[POINTS];
+    double[] distances = new double[POINTS];
+    int failures = 0;
+    System.out.printf("%8s %10s %14s %14s %12s%n", "lat", "radio (m)", "err. medio %", "err. max %", "fallos radio");
+    for (double originLat : LATITUDES) {
+      for (double radius : RADII) {
+        double spanLat = Math.toDegrees(radius * 1.5 / 6371000.0);
+        double spanLng = spanLat / Math.max(0.05, Math.cos(Math.toRadians(originLat)));
+        for (int i = 0; i < POINTS; i++) {
+          lats[i] = originLat + random.nextDouble(-spanLat, spanLat);
+          lngs[i] = PlaceFixtures.GRANADA_LNG + random.nextDouble(-spanLng, spanLng);
+        }
+        GeoUtils.distancesMeters(originLat, PlaceFixtures.GRANADA_LNG, lats, lngs, POINTS, exact);
+        GeoUtils.approxDistancesMeters(originLat, PlaceFixtures.GRANADA_LNG, lats, lngs, POINTS, approx);
+        double sum = 0;
+        double max = 0;
+        int inside = 0;
+        for (int i = 0; i < POINTS; i++) {
+          double error = exact[i] == 0 ? 0 : Math.abs(approx[i] - exact[i]) / exact[i];
+          sum += error;
+          max = Math.max(max, error);
+          if (exact[i] <= radius) {
+            inside++;
+          }
+        }
+        int found = GeoUtils.withinRadius(originLat, PlaceFixtures.GRANADA_LNG, lats, lngs, POINTS, radius,
+            indexes, distances);
+        int mismatches = Math.abs(found - inside);
+        for (int i = 0; i < found; i++) {
+          if (exact[indexes[i]] > radius || Math.abs(distances[i] - exact[indexes[i]]) > 1e-6) {
+            mismatches++;
+          }
+        }
+        failures += mismatches;
+        System.out.printf("%8.2f %10.0f %14.4f %14.4f %12d%n", originLat, radius,
+            100 * sum / POINTS, 100 * max, mismatches);
+      }
+    }
+    if (failures > 0) {
+      System.exit(1);
+    }
+  }
+}
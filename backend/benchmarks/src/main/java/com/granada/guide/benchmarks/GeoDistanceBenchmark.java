@@ -0,0 +1,72 @@
+package com.granada.guide.benchmarks;
+
+import com.granada.guide.util.GeoUtils;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(GeoDistanceBenchmark.POINTS)
+public class GeoDistanceBenchmark {
+  static final int POINTS = 4096;
+
+  private final double[] lats = new double[POINTS];
+  private final double[] lngs = new double[POINTS];
+  private final double originLat = PlaceFixtures.GRANADA_LAT;
+  private final double originLng = PlaceFixtures.GRANADA_LNG;
+  private final double[] out = new double[POINTS];
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < POINTS; i++) {
+      lats[i] = originLat + random.nextDouble(-0.1, 0.1);
+      lngs[i] = originLng + random.nextDouble(-0.1, 0.1);
+    }
+  }
+
+  @Benchmark
+  public double haversine() {
+    double sum = 0;
+    for (int i = 0; i < POINTS; i++) {
+      sum += GeoUtils.distanceMeters(originLat, originLng, lats[i], lngs[i]);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double equirectangular() {
+    double sum = 0;
+    for (int i = 0; i < POINTS; i++) {
+      sum += GeoUtils.approxDistanceMeters(originLat, originLng, lats[i], lngs[i]);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double[] batchHaversine() {
+    GeoUtils.distancesMeters(originLat, originLng, lats, lngs, POINTS, out);
+    return out;
+  }
+
+  @Benchmark
+  public double[] batchEquirectangular() {
+    GeoUtils.approxDistancesMeters(originLat, originLng, lats, lngs, POINTS, out);
+    return out;
+  }
+}
@@ -0,0 +1,58 @@
+package com.granada.guide.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.granada.guide.dto.PlaceDtos.PlaceColumns;
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.service.PlaceMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+  @Param({"1000", "10000", "100000"})
+  private int rows;
+
+  private ObjectMapper objectMapper;
+  private List<PlaceResponse> places;
+  private PlaceColumns columns;
+
+  @Setup
+  public void setup() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    places = PlaceFixtures.responses(rows, 42);
+    columns = PlaceMapper.toColumns(places);
+  }
+
+  @Benchmark
+  public byte[] placeList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(places);
+  }
+
+  @Benchmark
+  public byte[] columnarPlaceList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(PlaceMapper.toColumns(places));
+  }
+
+  @Benchmark
+  public byte[] columnarPlaceListPrebuilt() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(columns);
+  }
+}
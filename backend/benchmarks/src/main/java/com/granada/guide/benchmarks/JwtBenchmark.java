@@ -0,0 +1,49 @@
+package com.granada.guide.benchmarks;
+
+import com.granada.guide.security.JwtTokenProvider;
+import com.granada.guide.security.UserPrincipal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+  private JwtTokenProvider provider;
+  private UserPrincipal principal;
+  private String token;
+
+  @Setup
+  public void setup() {
+    provider = new JwtTokenProvider("benchmark_secret_with_at_least_32_characters", 60);
+    principal = new UserPrincipal(42L, "bench@mail.com", "hash", "Bench");
+    token = provider.generateToken(principal);
+  }
+
+  @Benchmark
+  public String generate() {
+    return provider.generateToken(principal);
+  }
+
+  @Benchmark
+  public boolean validate() {
+    return provider.validateToken(token);
+  }
+
+  @Benchmark
+  public Long validateAndReadUser() {
+    return provider.validateToken(token) ? provider.getUserIdFromToken(token) : null;
+  }
+}
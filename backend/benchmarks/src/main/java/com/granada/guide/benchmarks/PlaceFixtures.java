@@ -0,0 +1,84 @@
+package com.granada.guide.benchmarks;
+
+import com.granada.guide.dto.CommonDtos.CategorySummary;
+import com.granada.guide.dto.CommonDtos.UserSummary;
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.entity.Category;
+import com.granada.guide.entity.Group;
+import com.granada.guide.entity.Place;
+import com.granada.guide.entity.PlaceVisitStatus;
+import com.granada.guide.entity.User;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public final class PlaceFixtures {
+  public static final double GRANADA_LAT = 37.1773;
+  public static final double GRANADA_LNG = -3.5986;
+
+  private static final String[] CATEGORIES = {"Restaurante", "Bar", "Mirador", "Museo", "Parque", "Tienda"};
+
+  private PlaceFixtures() {}
+
+  public static List<Place> places(int count, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    Group group = new Group();
+    group.setId(1L);
+    User user = new User();
+    user.setId(1L);
+    user.setName("Usuario benchmark");
+    List<Category> categories = new ArrayList<>();
+    for (int i = 0; i < CATEGORIES.length; i++) {
+      Category category = new Category();
+      category.setId((long) i + 1);
+      category.setName(CATEGORIES[i]);
+      category.setIcon("icon-" + i);
+      categories.add(category);
+    }
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    List<Place> places = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Place place = new Place();
+      place.setId((long) i + 1);
+      place.setGroup(group);
+      place.setName("Sitio " + i);
+      place.setNotes(i % 3 == 0 ? "Notas del sitio " + i : null);
+      place.setAddress("Calle " + (i % 500) + ", Granada");
+      place.setLat(GRANADA_LAT + random.nextDouble(-0.05, 0.05));
+      place.setLng(GRANADA_LNG + random.nextDouble(-0.05, 0.05));
+      place.setStatus(i % 2 == 0 ? PlaceVisitStatus.PENDING : PlaceVisitStatus.VISITED);
+      place.setCategory(categories.get(i % categories.size()));
+      place.setCreatedBy(user);
+      place.setCreatedAt(now.plusSeconds(i));
+      places.add(place);
+    }
+    return places;
+  }
+
+  public static List<PlaceResponse> responses(int count, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    UserSummary user = new UserSummary(1L, "Usuario benchmark");
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    List<PlaceResponse> responses = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int category = i % CATEGORIES.length;
+      responses.add(new PlaceResponse(
+          (long) i + 1,
+          1L,
+          "Sitio " + i,
+          GRANADA_LAT + random.nextDouble(-0.05, 0.05),
+          GRANADA_LNG + random.nextDouble(-0.05, 0.05),
+          i % 2 == 0 ? PlaceVisitStatus.PENDING : PlaceVisitStatus.VISITED,
+          i % 3 == 0 ? "Notas del sitio " + i : null,
+          "Calle " + (i % 500) + ", Granada",
+          new CategorySummary((long) category + 1, CATEGORIES[category], "icon-" + category),
+          user,
+          now.plusSeconds(i),
+          null,
+          i % 5 == 0 ? PlaceVisitStatus.VISITED : null,
+          i % 7 == 0));
+    }
+    return responses;
+  }
+}
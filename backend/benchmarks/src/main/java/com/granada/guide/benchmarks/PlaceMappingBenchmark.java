@@ -0,0 +1,50 @@
+package com.granada.guide.benchmarks;
+
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.entity.Place;
+import com.granada.guide.service.PlaceMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceMappingBenchmark {
+  private static final int PLACES = 1000;
+
+  private List<Place> places;
+
+  @Setup
+  public void setup() {
+    places = PlaceFixtures.places(PLACES, 42);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PLACES)
+  public void toResponse(Blackhole blackhole) {
+    for (Place place : places) {
+      PlaceResponse response = PlaceMapper.toResponse(place, null);
+      blackhole.consume(response);
+    }
+  }
+
+  @Benchmark
+  public Object parseBoundingBox() {
+    return PlaceMapper.parseBoundingBox("-3.6500,37.1400,-3.5500,37.2100");
+  }
+}
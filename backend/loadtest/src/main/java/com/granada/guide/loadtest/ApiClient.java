@@ -0,0 +1,81 @@
+package com.granada.guide.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+public class ApiClient {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final String baseUrl;
+  private final HttpClient http;
+  private final Duration timeout;
+
+  public ApiClient(String baseUrl, Duration timeout) {
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    this.timeout = timeout;
+    this.http = HttpClient.newBuilder()
+        .connectTimeout(timeout)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+  }
+
+  public String login(String email, String password) throws IOException, InterruptedException {
+    JsonNode body = postJson("/api/auth/login", null, Map.of("email", email, "password", password));
+    return body.get("token").asText();
+  }
+
+  public JsonNode getJson(String path, String token) throws IOException, InterruptedException {
+    HttpResponse<byte[]> response = get(path, token);
+    if (response.statusCode() >= 400) {
+      throw new IOException("GET " + path + " -> " + response.statusCode());
+    }
+    return MAPPER.readTree(response.body());
+  }
+
+  public JsonNode postJson(String path, String token, Object payload)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder builder = request(path, token)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(payload)));
+    HttpResponse<byte[]> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() >= 400) {
+      throw new IOException("POST " + path + " -> " + response.statusCode());
+    }
+    return MAPPER.readTree(response.body());
+  }
+
+  public HttpResponse<byte[]> get(String path, String token) throws IOException, InterruptedException {
+    return http.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+  }
+
+  public HttpResponse<Void> getDiscarding(String path, String token)
+      throws IOException, InterruptedException {
+    return http.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.discarding());
+  }
+
+  public HttpResponse<byte[]> getWithBasicAuth(String path, String username, String password)
+      throws IOException, InterruptedException {
+    String credentials = Base64.getEncoder()
+        .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    return http.send(request(path, null).header("Authorization", "Basic " + credentials).GET().build(),
+        HttpResponse.BodyHandlers.ofByteArray());
+  }
+
+  private HttpRequest.Builder request(String path, String token) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder;
+  }
+}
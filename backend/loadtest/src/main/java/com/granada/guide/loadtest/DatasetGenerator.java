@@ -0,0 +1,331 @@
+package com.granada.guide.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class DatasetGenerator {
+  public static final String EMAIL_PREFIX = "load";
+  public static final String EMAIL_DOMAIN = "@granada.test";
+  private static final String GROUP_PREFIX = "Carga ";
+  private static final int BATCH_SIZE = 1000;
+  private static final int PHOTO_POOL_SIZE = 64;
+
+  private static final String[] NAME_PREFIXES = {
+      "Bar", "Mirador", "Taberna", "Carmen", "Plaza", "Museo", "Cafe", "Heladeria", "Teteria", "Jardines"
+  };
+  private static final String[] NAME_SUFFIXES = {
+      "San Nicolas", "del Darro", "de la Alhambra", "Los Diamantes", "de Bib-Rambla", "del Realejo",
+      "Sacromonte", "de la Chumbera", "Paseo de los Tristes", "de Santa Ana", "Nueva", "del Triunfo"
+  };
+  private static final String[] STREETS = {
+      "Calle Elvira", "Gran Via de Colon", "Calle Navas", "Carrera del Darro", "Cuesta de Gomerez",
+      "Calle Reyes Catolicos", "Camino del Sacromonte", "Calle San Juan de los Reyes", "Avenida de la Constitucion"
+  };
+  private static final String[] COMMENTS = {
+      "Muy recomendable al atardecer", "Tapas generosas y buen precio", "Hay que reservar el fin de semana",
+      "Vistas espectaculares a la Alhambra", "Demasiado turistico", "Volveremos seguro",
+      "Mejor entre semana", "El servicio algo lento pero merece la pena"
+  };
+
+  private final Options options;
+
+  public DatasetGenerator(Options options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> values = LoadTest.parse(args, Options.DEFAULTS);
+    new DatasetGenerator(Options.from(values)).generate();
+  }
+
+  public Dataset generate() throws SQLException, IOException {
+    SplittableRandom random = new SplittableRandom(options.seed());
+    boolean postgres = options.jdbcUrl().startsWith("jdbc:postgresql:");
+    long started = System.nanoTime();
+    try (Connection connection = DriverManager.getConnection(
+        options.jdbcUrl(), options.dbUser(), options.dbPassword())) {
+      connection.setAutoCommit(false);
+      if (options.reset()) {
+        reset(connection);
+      }
+      String passwordHash = new BCryptPasswordEncoder().encode(options.password());
+      List<Long> userIds = insertUsers(connection, passwordHash);
+      List<Long> categoryIds = queryIds(connection, "select id from categories order by id");
+      int groupCount = Math.max(1, (int) Math.ceil((double) userIds.size() / options.membersPerGroup()));
+      List<Long> groupIds = insertGroups(connection, postgres, userIds, groupCount);
+      Map<Long, List<Long>> members = new HashMap<>();
+      for (int i = 0; i < userIds.size(); i++) {
+        members.computeIfAbsent(groupIds.get(i % groupIds.size()), id -> new ArrayList<>()).add(userIds.get(i));
+      }
+      List<long[]> places = insertPlaces(connection, postgres, random, groupIds, members, categoryIds);
+      int comments = insertComments(connection, random, places, members);
+      int photos = insertPhotos(connection, random, places, members);
+      connection.commit();
+      Dataset dataset = new Dataset(userIds.size(), groupIds.size(), places.size(), comments, photos);
+      System.out.printf("Dataset: %d usuarios, %d grupos, %d sitios, %d comentarios, %d fotos en %.1fs%n",
+          dataset.users(), dataset.groups(), dataset.places(), dataset.comments(), dataset.photos(),
+          (System.nanoTime() - started) / 1_000_000_000.0);
+      return dataset;
+    }
+  }
+
+  public static String email(int index) {
+    return EMAIL_PREFIX + index + EMAIL_DOMAIN;
+  }
+
+  private void reset(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.executeUpdate("delete from groups where name like '" + GROUP_PREFIX + "%'");
+      statement.executeUpdate("delete from users where email like '" + EMAIL_PREFIX + "%" + EMAIL_DOMAIN + "'");
+    }
+    connection.commit();
+  }
+
+  private List<Long> insertUsers(Connection connection, String passwordHash) throws SQLException {
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into users (email, password_hash, name) values (?, ?, ?)")) {
+      for (int i = 1; i <= options.users(); i++) {
+        insert.setString(1, email(i));
+        insert.setString(2, passwordHash);
+        insert.setString(3, "Usuario carga " + i);
+        addToBatch(insert, i);
+      }
+      insert.executeBatch();
+    }
+    return queryIds(connection, "select id from users where email like '"
+        + EMAIL_PREFIX + "%" + EMAIL_DOMAIN + "' order by id");
+  }
+
+  private List<Long> insertGroups(Connection connection, boolean postgres, List<Long> userIds, int groupCount)
+      throws SQLException {
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into groups (name, created_by) values (?, ?)")) {
+      for (int i = 0; i < groupCount; i++) {
+        insert.setString(1, GROUP_PREFIX + (i + 1));
+        insert.setLong(2, userIds.get(i));
+        addToBatch(insert, i + 1);
+      }
+      insert.executeBatch();
+    }
+    List<Long> groupIds = queryIds(connection,
+        "select id from groups where name like '" + GROUP_PREFIX + "%' order by id");
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into group_members (group_id, user_id, role) values (?, ?, " + enumParam(postgres, "group_role_type") + ")")) {
+      for (int i = 0; i < userIds.size(); i++) {
+        insert.setLong(1, groupIds.get(i % groupIds.size()));
+        insert.setLong(2, userIds.get(i));
+        insert.setString(3, i < groupIds.size() ? "OWNER" : "MEMBER");
+        addToBatch(insert, i + 1);
+      }
+      insert.executeBatch();
+    }
+    return groupIds;
+  }
+
+  private List<long[]> insertPlaces(Connection connection, boolean postgres, SplittableRandom random,
+      List<Long> groupIds, Map<Long, List<Long>> members, List<Long> categoryIds) throws SQLException {
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into places (group_id, name, description, category_id, lat, lng, address, created_by, status)"
+            + " values (?, ?, ?, ?, ?, ?, ?, ?, " + enumParam(postgres, "place_visit_status") + ")")) {
+      for (int i = 0; i < options.places(); i++) {
+        long groupId = groupIds.get(i % groupIds.size());
+        double[] point = GranadaGeography.samplePlace(random);
+        insert.setLong(1, groupId);
+        insert.setString(2, NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + " "
+            + NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)] + " " + (i + 1));
+        insert.setString(3, random.nextInt(3) == 0 ? COMMENTS[random.nextInt(COMMENTS.length)] : null);
+        insert.setLong(4, categoryIds.get(random.nextInt(categoryIds.size())));
+        insert.setDouble(5, point[0]);
+        insert.setDouble(6, point[1]);
+        insert.setString(7, STREETS[random.nextInt(STREETS.length)] + ", " + (1 + random.nextInt(120)));
+        insert.setLong(8, pick(members.get(groupId), random));
+        insert.setString(9, random.nextInt(3) == 0 ? "VISITED" : "PENDING");
+        addToBatch(insert, i + 1);
+      }
+      insert.executeBatch();
+    }
+    List<long[]> places = new ArrayList<>(options.places());
+    String groupList = String.join(",", groupIds.stream().map(String::valueOf).toList());
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(
+            "select id, group_id from places where group_id in (" + groupList + ") order by id")) {
+      while (rs.next()) {
+        places.add(new long[] {rs.getLong(1), rs.getLong(2)});
+      }
+    }
+    return places;
+  }
+
+  private int insertComments(Connection connection, SplittableRandom random, List<long[]> places,
+      Map<Long, List<Long>> members) throws SQLException {
+    int count = 0;
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into comments (place_id, user_id, text) values (?, ?, ?)")) {
+      for (long[] place : places) {
+        int comments = random.nextInt(options.maxCommentsPerPlace() + 1);
+        for (int i = 0; i < comments; i++) {
+          insert.setLong(1, place[0]);
+          insert.setLong(2, pick(members.get(place[1]), random));
+          insert.setString(3, COMMENTS[random.nextInt(COMMENTS.length)]);
+          addToBatch(insert, ++count);
+        }
+      }
+      insert.executeBatch();
+    }
+    return count;
+  }
+
+  private int insertPhotos(Connection connection, SplittableRandom random, List<long[]> places,
+      Map<Long, List<Long>> members) throws SQLException, IOException {
+    Path uploadDir = Path.of(options.uploadDir()).toAbsolutePath();
+    List<Path> pool = photoPool(uploadDir.resolve(".loadtest-pool"), random);
+    int count = 0;
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into photos (place_id, user_id, url, caption) values (?, ?, ?, ?)")) {
+      for (long[] place : places) {
+        if (random.nextDouble() >= options.photoShare()) {
+          continue;
+        }
+        int photos = 1 + random.nextInt(options.maxPhotosPerPlace());
+        Path placeDir = uploadDir.resolve("place-" + place[0]);
+        Files.createDirectories(placeDir);
+        for (int i = 0; i < photos; i++) {
+          String filename = "load-" + place[0] + "-" + i + ".jpg";
+          Path target = placeDir.resolve(filename);
+          if (!Files.exists(target)) {
+            link(pool.get(random.nextInt(pool.size())), target);
+          }
+          insert.setLong(1, place[0]);
+          insert.setLong(2, pick(members.get(place[1]), random));
+          insert.setString(3, "/uploads/place-" + place[0] + "/" + filename);
+          insert.setString(4, i == 0 ? "Foto de carga" : null);
+          addToBatch(insert, ++count);
+        }
+      }
+      insert.executeBatch();
+    }
+    return count;
+  }
+
+  private List<Path> photoPool(Path poolDir, SplittableRandom random) throws IOException {
+    Files.createDirectories(poolDir);
+    List<Path> pool = new ArrayList<>(PHOTO_POOL_SIZE);
+    for (int i = 0; i < PHOTO_POOL_SIZE; i++) {
+      Path file = poolDir.resolve("photo-" + i + ".jpg");
+      int size = options.minPhotoKb() * 1024 + random.nextInt(
+          Math.max(1, (options.maxPhotoKb() - options.minPhotoKb()) * 1024));
+      byte[] bytes = new byte[Math.max(size, 4)];
+      random.nextBytes(bytes);
+      bytes[0] = (byte) 0xFF;
+      bytes[1] = (byte) 0xD8;
+      bytes[bytes.length - 2] = (byte) 0xFF;
+      bytes[bytes.length - 1] = (byte) 0xD9;
+      Files.write(file, bytes);
+      pool.add(file);
+    }
+    return pool;
+  }
+
+  private static void link(Path source, Path target) throws IOException {
+    try {
+      Files.createLink(target, source);
+    } catch (UnsupportedOperationException | IOException ex) {
+      Files.copy(source, target);
+    }
+  }
+
+  private static String enumParam(boolean postgres, String type) {
+    return postgres ? "cast(? as " + type + ")" : "?";
+  }
+
+  private static long pick(List<Long> values, SplittableRandom random) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private static void addToBatch(PreparedStatement statement, int count) throws SQLException {
+    statement.addBatch();
+    if (count % BATCH_SIZE == 0) {
+      statement.executeBatch();
+    }
+  }
+
+  private static List<Long> queryIds(Connection connection, String sql) throws SQLException {
+    List<Long> ids = new ArrayList<>();
+    try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+      while (rs.next()) {
+        ids.add(rs.getLong(1));
+      }
+    }
+    return ids;
+  }
+
+  public record Dataset(int users, int groups, int places, int comments, int photos) {}
+
+  public record Options(
+      String jdbcUrl,
+      String dbUser,
+      String dbPassword,
+      String uploadDir,
+      String password,
+      int users,
+      int membersPerGroup,
+      int places,
+      int maxCommentsPerPlace,
+      double photoShare,
+      int maxPhotosPerPlace,
+      int minPhotoKb,
+      int maxPhotoKb,
+      long seed,
+      boolean reset
+  ) {
+    static final Map<String, String> DEFAULTS = Map.ofEntries(
+        Map.entry("jdbc-url", "jdbc:mariadb://localhost:3306/granada_guide"),
+        Map.entry("db-user", "granada"),
+        Map.entry("db-password", "granada_pass"),
+        Map.entry("upload-dir", "../uploads"),
+        Map.entry("password", "123456"),
+        Map.entry("users", "200"),
+        Map.entry("members-per-group", "4"),
+        Map.entry("places", "20000"),
+        Map.entry("max-comments", "6"),
+        Map.entry("photo-share", "0.3"),
+        Map.entry("max-photos", "6"),
+        Map.entry("min-photo-kb", "40"),
+        Map.entry("max-photo-kb", "400"),
+        Map.entry("seed", "20261019"),
+        Map.entry("reset", "true")
+    );
+
+    static Options from(Map<String, String> values) {
+      return new Options(
+          values.get("jdbc-url"),
+          values.get("db-user"),
+          values.get("db-password"),
+          values.get("upload-dir"),
+          values.get("password"),
+          Integer.parseInt(values.get("users")),
+          Integer.parseInt(values.get("members-per-group")),
+          Integer.parseInt(values.get("places")),
+          Integer.parseInt(values.get("max-comments")),
+          Double.parseDouble(values.get("photo-share")),
+          Integer.parseInt(values.get("max-photos")),
+          Integer.parseInt(values.get("min-photo-kb")),
+          Integer.parseInt(values.get("max-photo-kb")),
+          Long.parseLong(values.get("seed")),
+          Boolean.parseBoolean(values.get("reset")));
+    }
+  }
+}
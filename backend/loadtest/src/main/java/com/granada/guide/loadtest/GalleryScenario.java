@@ -0,0 +1,39 @@
+package com.granada.guide.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.SplittableRandom;
+
+public class GalleryScenario implements Scenario {
+  private static final int MAX_PHOTOS = 12;
+
+  private final PlaceCatalog catalog;
+
+  public GalleryScenario(PlaceCatalog catalog) {
+    this.catalog = catalog;
+  }
+
+  @Override
+  public String name() {
+    return "gallery";
+  }
+
+  @Override
+  public void prepare(ApiClient client, String token) throws Exception {
+    catalog.load(client, token);
+  }
+
+  @Override
+  public boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception {
+    JsonNode photos = client.getJson("/api/places/" + catalog.randomPlace(token, random) + "/photos", token);
+    int downloaded = 0;
+    for (JsonNode photo : photos) {
+      if (downloaded++ >= MAX_PHOTOS) {
+        break;
+      }
+      if (client.getDiscarding(photo.get("url").asText(), token).statusCode() != 200) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,69 @@
+package com.granada.guide.loadtest;
+
+import java.util.SplittableRandom;
+
+public final class GranadaGeography {
+  public static final double CENTER_LAT = 37.1773;
+  public static final double CENTER_LNG = -3.5986;
+
+  private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+  private static final double SCATTERED_SHARE = 0.12;
+  private static final double SCATTERED_RADIUS_DEG = 0.08;
+
+  private static final Hotspot[] HOTSPOTS = {
+      new Hotspot("Centro", 37.1760, -3.5979, 450, 0.26),
+      new Hotspot("Albaicin", 37.1810, -3.5925, 350, 0.18),
+      new Hotspot("Alhambra", 37.1761, -3.5881, 250, 0.14),
+      new Hotspot("Realejo", 37.1720, -3.5920, 300, 0.12),
+      new Hotspot("Sacromonte", 37.1830, -3.5800, 300, 0.07),
+      new Hotspot("Zaidin", 37.1580, -3.5970, 600, 0.10),
+      new Hotspot("Ronda", 37.1700, -3.6080, 500, 0.13)
+  };
+
+  private GranadaGeography() {}
+
+  public static double[] samplePlace(SplittableRandom random) {
+    if (random.nextDouble() < SCATTERED_SHARE) {
+      return new double[] {
+          CENTER_LAT + random.nextDouble(-SCATTERED_RADIUS_DEG, SCATTERED_RADIUS_DEG),
+          CENTER_LNG + random.nextDouble(-SCATTERED_RADIUS_DEG, SCATTERED_RADIUS_DEG)
+      };
+    }
+    Hotspot hotspot = pickHotspot(random);
+    return jitter(hotspot, hotspot.sigmaMeters, random);
+  }
+
+  public static double[] sampleViewportCenter(SplittableRandom random) {
+    Hotspot hotspot = pickHotspot(random);
+    return jitter(hotspot, hotspot.sigmaMeters * 2, random);
+  }
+
+  public static Hotspot pickHotspot(SplittableRandom random) {
+    double roll = random.nextDouble();
+    double cumulative = 0;
+    for (Hotspot hotspot : HOTSPOTS) {
+      cumulative += hotspot.weight;
+      if (roll < cumulative) {
+        return hotspot;
+      }
+    }
+    return HOTSPOTS[HOTSPOTS.length - 1];
+  }
+
+  private static double[] jitter(Hotspot hotspot, double sigmaMeters, SplittableRandom random) {
+    double sigmaLat = sigmaMeters / METERS_PER_DEGREE_LAT;
+    double sigmaLng = sigmaMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(hotspot.lat)));
+    return new double[] {
+        hotspot.lat + gaussian(random) * sigmaLat,
+        hotspot.lng + gaussian(random) * sigmaLng
+    };
+  }
+
+  private static double gaussian(SplittableRandom random) {
+    double u = 1.0 - random.nextDouble();
+    double v = random.nextDouble();
+    return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+  }
+
+  public record Hotspot(String name, double lat, double lng, double sigmaMeters, double weight) {}
+}
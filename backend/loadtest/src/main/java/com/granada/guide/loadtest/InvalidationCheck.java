@@ -0,0 +1,154 @@
+package com.granada.guide.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+public class InvalidationCheck {
+  private static final Map<String, String> DEFAULTS = Map.ofEntries(
+      Map.entry("backend-jar", "../target/granada-guide-backend-0.1.0.jar"),
+      Map.entry("db-image", "mariadb:10.11"),
+      Map.entry("rounds", "5"),
+      Map.entry("poll-ms", "1000"),
+      Map.entry("password", "invalidation-pass-123")
+  );
+  private static final String DB_NAME = "granada_guide";
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+  private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(30);
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = LoadTest.parse(args, DEFAULTS);
+    Path jar = Path.of(options.get("backend-jar")).toAbsolutePath();
+    if (!Files.isRegularFile(jar)) {
+      throw new IllegalStateException("No existe " + jar + ": ejecuta antes mvn -DskipTests package en backend");
+    }
+    int rounds = Integer.parseInt(options.get("rounds"));
+
+    try (MariaDBContainer<?> database = new MariaDBContainer<>(DockerImageName.parse(options.get("db-image")))
+        .withDatabaseName(DB_NAME)
+        .withUsername("granada")
+        .withPassword("granada_pass")) {
+      database.start();
+      Path uploadDir = Files.createTempDirectory("granada-invalidation-uploads");
+      List<Process> nodes = new ArrayList<>();
+      try {
+        ApiClient nodeA = launch("a", jar, database, uploadDir, options, nodes);
+        ApiClient nodeB = launch("b", jar, database, uploadDir, options, nodes);
+
+        String email = "invalidation-" + System.currentTimeMillis() + "@granada.test";
+        String token = nodeA.postJson("/api/auth/register", null,
+            Map.of("email", email, "password", options.get("password"), "name", "Invalidacion")).get("token").asText();
+        long[] placeLatencies = new long[rounds];
+        long[] categoryLatencies = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+          nodeB.getJson("/api/places", token);
+          nodeB.getJson("/api/categories", token);
+          long placeId = nodeA.postJson("/api/places", token, Map.of(
+              "name", "Sitio replicado " + i, "lat", 37.18, "lng", -3.6, "status", "PENDING")).get("id").asLong();
+          placeLatencies[i] = await(() -> contains(nodeB.getJson("/api/places", token), placeId));
+          long categoryId = nodeA.postJson("/api/categories", token,
+              Map.of("name", "Categoria " + System.nanoTime(), "icon", "pin")).get("id").asLong();
+          categoryLatencies[i] = await(() -> contains(nodeB.getJson("/api/categories", token), categoryId));
+          System.out.printf("ronda %d: sitio visible en B tras %dms, categoria tras %dms%n",
+              i + 1, placeLatencies[i], categoryLatencies[i]);
+        }
+        System.out.printf("Propagacion A -> B: sitios max=%dms, categorias max=%dms%n",
+            max(placeLatencies), max(categoryLatencies));
+      } finally {
+        for (Process node : nodes) {
+          node.destroy();
+          node.waitFor();
+        }
+      }
+    }
+  }
+
+  private static ApiClient launch(String name, Path jar, MariaDBContainer<?> database, Path uploadDir,
+      Map<String, String> options, List<Process> nodes) throws Exception {
+    int port = freePort();
+    Path log = Path.of("target", "invalidation-" + name + ".log").toAbsolutePath();
+    Files.createDirectories(log.getParent());
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    ProcessBuilder builder = new ProcessBuilder(java, "-jar", jar.toString());
+    builder.environment().putAll(new HashMap<>(Map.of(
+        "SERVER_PORT", Integer.toString(port),
+        "DB_HOST", database.getHost(),
+        "DB_PORT", Integer.toString(database.getMappedPort(3306)),
+        "DB_NAME", DB_NAME,
+        "DB_USER", database.getUsername(),
+        "DB_PASS", database.getPassword(),
+        "UPLOAD_DIR", uploadDir.toString(),
+        "SEED_ENABLED", "false",
+        "WARMUP_ENABLED", "false",
+        "CACHE_INVALIDATION_POLL_MS", options.get("poll-ms"))));
+    builder.redirectErrorStream(true).redirectOutput(log.toFile());
+    Process backend = builder.start();
+    nodes.add(backend);
+    ApiClient client = new ApiClient("http://localhost:" + port, Duration.ofSeconds(10));
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!backend.isAlive()) {
+        throw new IllegalStateException("El nodo " + name + " termino al arrancar, ver " + log);
+      }
+      try {
+        if (client.getDiscarding("/actuator/health", null).statusCode() == 200) {
+          System.out.printf("Nodo %s listo en el puerto %d (log en %s)%n", name, port, log);
+          return client;
+        }
+      } catch (IOException starting) {
+        Thread.sleep(100);
+        continue;
+      }
+      Thread.sleep(100);
+    }
+    throw new IllegalStateException("El nodo " + name + " no arranco en " + STARTUP_TIMEOUT.toSeconds() + "s");
+  }
+
+  private static long await(Check check) throws Exception {
+    long start = System.nanoTime();
+    long deadline = start + PROPAGATION_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (check.done()) {
+        return (System.nanoTime() - start) / 1_000_000;
+      }
+      Thread.sleep(20);
+    }
+    throw new IllegalStateException("El cambio no llego al nodo B en " + PROPAGATION_TIMEOUT.toSeconds() + "s");
+  }
+
+  private static boolean contains(JsonNode items, long id) {
+    for (JsonNode item : items) {
+      if (item.path("id").asLong() == id) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long max(long[] values) {
+    long max = 0;
+    for (long value : values) {
+      max = Math.max(max, value);
+    }
+    return max;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private interface Check {
+    boolean done() throws Exception;
+  }
+}
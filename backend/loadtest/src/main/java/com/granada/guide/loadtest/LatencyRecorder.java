@@ -0,0 +1,49 @@
+package com.granada.guide.loadtest;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+  private long[] samples = new long[1024];
+  private int size;
+  private long errors;
+
+  public void record(long nanos, boolean ok) {
+    if (!ok) {
+      errors++;
+    }
+    if (size == samples.length) {
+      samples = Arrays.copyOf(samples, size * 2);
+    }
+    samples[size++] = nanos;
+  }
+
+  public static Summary merge(String name, double seconds, Iterable<LatencyRecorder> recorders) {
+    int total = 0;
+    long errors = 0;
+    for (LatencyRecorder recorder : recorders) {
+      total += recorder.size;
+      errors += recorder.errors;
+    }
+    long[] all = new long[total];
+    int offset = 0;
+    for (LatencyRecorder recorder : recorders) {
+      System.arraycopy(recorder.samples, 0, all, offset, recorder.size);
+      offset += recorder.size;
+    }
+    Arrays.sort(all);
+    return new Summary(name, total, errors, total / seconds,
+        percentile(all, 50), percentile(all, 90), percentile(all, 99),
+        all.length == 0 ? 0 : all[all.length - 1] / 1_000_000.0);
+  }
+
+  private static double percentile(long[] sorted, double p) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+  }
+
+  public record Summary(String scenario, long requests, long errors, double throughput,
+      double p50Ms, double p90Ms, double p99Ms, double maxMs) {}
+}
@@ -0,0 +1,176 @@
+package com.granada.guide.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class LoadTest {
+  private static final Map<String, String> DEFAULTS = Map.ofEntries(
+      Map.entry("base-url", "http://localhost:8080"),
+      Map.entry("email", "test1@mail.com"),
+      Map.entry("password", "123456"),
+      Map.entry("scenario", "mixed"),
+      Map.entry("concurrency", "200"),
+      Map.entry("duration", "30"),
+      Map.entry("warmup", "5"),
+      Map.entry("timeout", "30"),
+      Map.entry("users", "0"),
+      Map.entry("seed-data", "false"),
+      Map.entry("local", "false"),
+      Map.entry("backend-jar", "../target/granada-guide-backend-0.1.0.jar"),
+      Map.entry("db-image", "mariadb:10.11")
+  );
+  private static final String DEFAULT_GENERATED_USERS = "200";
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> defaults = new HashMap<>(DatasetGenerator.Options.DEFAULTS);
+    defaults.putAll(DEFAULTS);
+    Map<String, String> options = parse(args, defaults);
+    boolean local = Boolean.parseBoolean(options.get("local"));
+    boolean seed = local || Boolean.parseBoolean(options.get("seed-data"));
+    if (seed && options.get("users").equals("0")) {
+      options.put("users", DEFAULT_GENERATED_USERS);
+    }
+
+    LocalEnvironment environment = local ? LocalEnvironment.start(options) : null;
+    try {
+      if (environment != null) {
+        options.put("base-url", environment.baseUrl());
+        options.put("jdbc-url", environment.jdbcUrl());
+        options.put("db-user", environment.dbUser());
+        options.put("db-password", environment.dbPassword());
+        options.put("upload-dir", environment.uploadDir().toString());
+      }
+      if (seed) {
+        new DatasetGenerator(DatasetGenerator.Options.from(options)).generate();
+      }
+      run(options);
+    } finally {
+      if (environment != null) {
+        environment.close();
+      }
+    }
+  }
+
+  private static void run(Map<String, String> options) throws Exception {
+    ApiClient client = new ApiClient(options.get("base-url"),
+        Duration.ofSeconds(Long.parseLong(options.get("timeout"))));
+    int concurrency = Integer.parseInt(options.get("concurrency"));
+    int users = Integer.parseInt(options.get("users"));
+    List<String> tokens = login(client, options, Math.min(Math.max(users, 1), concurrency));
+    PlaceCatalog catalog = new PlaceCatalog();
+
+    List<Map<String, Object>> reports = new ArrayList<>();
+    for (String name : options.get("scenario").split(",")) {
+      Scenario scenario = scenario(name.trim(), catalog, users, options.get("password"));
+      for (String token : tokens) {
+        scenario.prepare(client, token);
+      }
+      int warmup = Integer.parseInt(options.get("warmup"));
+      if (warmup > 0) {
+        run(client, tokens, scenario, concurrency, warmup);
+      }
+      LatencyRecorder.Summary summary = run(client, tokens, scenario, concurrency,
+          Integer.parseInt(options.get("duration")));
+      System.out.printf("%-8s conc=%d req=%d err=%d thr=%.1f req/s p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms%n",
+          summary.scenario(), concurrency, summary.requests(), summary.errors(), summary.throughput(),
+          summary.p50Ms(), summary.p90Ms(), summary.p99Ms(), summary.maxMs());
+      Map<String, Object> report = new HashMap<>();
+      report.put("label", options.getOrDefault("label", ""));
+      report.put("concurrency", concurrency);
+      report.put("users", tokens.size());
+      report.put("summary", summary);
+      reports.add(report);
+    }
+    if (options.containsKey("out")) {
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+          .writeValue(Path.of(options.get("out")).toFile(), reports);
+    }
+  }
+
+  static LatencyRecorder.Summary run(ApiClient client, List<String> tokens, Scenario scenario,
+      int concurrency, int seconds) throws InterruptedException {
+    List<LatencyRecorder> recorders = new ArrayList<>();
+    long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+    long started = System.nanoTime();
+    try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorders.add(recorder);
+        SplittableRandom random = new SplittableRandom(i);
+        String token = tokens.get(i % tokens.size());
+        workers.submit(() -> {
+          while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+              ok = scenario.execute(client, token, random);
+            } catch (InterruptedException ex) {
+              Thread.currentThread().interrupt();
+              return;
+            } catch (Exception ex) {
+              ok = false;
+            }
+            recorder.record(System.nanoTime() - start, ok);
+          }
+        });
+      }
+    }
+    double elapsed = (System.nanoTime() - started) / 1_000_000_000.0;
+    return LatencyRecorder.merge(scenario.name(), elapsed, recorders);
+  }
+
+  private static List<String> login(ApiClient client, Map<String, String> options, int sessions)
+      throws Exception {
+    if (options.get("users").equals("0")) {
+      return List.of(client.login(options.get("email"), options.get("password")));
+    }
+    List<Future<String>> pending = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 1; i <= sessions; i++) {
+        String email = DatasetGenerator.email(i);
+        pending.add(executor.submit(() -> client.login(email, options.get("password"))));
+      }
+    }
+    List<String> tokens = new ArrayList<>(sessions);
+    for (Future<String> token : pending) {
+      tokens.add(token.get());
+    }
+    return tokens;
+  }
+
+  private static Scenario scenario(String name, PlaceCatalog catalog, int users, String password) {
+    return switch (name) {
+      case "places" -> new PlaceListScenario();
+      case "photos" -> new PhotoDownloadScenario();
+      case "mixed" -> new MixedScenario();
+      case "map" -> new MapPanningScenario();
+      case "place" -> new PlaceOpenScenario(catalog);
+      case "gallery" -> new GalleryScenario(catalog);
+      case "login" -> new LoginStormScenario(users, password);
+      case "release" -> new ReleaseScenario(catalog, users, password);
+      default -> throw new IllegalArgumentException("Escenario desconocido: " + name);
+    };
+  }
+
+  static Map<String, String> parse(String[] args, Map<String, String> defaults) {
+    Map<String, String> options = new HashMap<>(defaults);
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Argumento invalido: " + arg);
+      }
+      int eq = arg.indexOf('=');
+      options.put(arg.substring(2, eq), arg.substring(eq + 1));
+    }
+    return options;
+  }
+}
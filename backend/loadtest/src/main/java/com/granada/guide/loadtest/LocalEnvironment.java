@@ -0,0 +1,128 @@
+package com.granada.guide.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+public class LocalEnvironment implements AutoCloseable {
+  private static final String DB_NAME = "granada_guide";
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+  private final MariaDBContainer<?> database;
+  private final Process backend;
+  private final Path uploadDir;
+  private final String baseUrl;
+
+  private LocalEnvironment(MariaDBContainer<?> database, Process backend, Path uploadDir, String baseUrl) {
+    this.database = database;
+    this.backend = backend;
+    this.uploadDir = uploadDir;
+    this.baseUrl = baseUrl;
+  }
+
+  public static LocalEnvironment start(Map<String, String> options) throws Exception {
+    Path jar = Path.of(options.get("backend-jar")).toAbsolutePath();
+    if (!Files.isRegularFile(jar)) {
+      throw new IllegalStateException("No existe " + jar + ": ejecuta antes mvn -DskipTests package en backend");
+    }
+    MariaDBContainer<?> database = new MariaDBContainer<>(DockerImageName.parse(options.get("db-image")))
+        .withDatabaseName(DB_NAME)
+        .withUsername("granada")
+        .withPassword("granada_pass");
+    database.start();
+
+    Path uploadDir = Files.createTempDirectory("granada-loadtest-uploads");
+    int port = freePort();
+    ProcessBuilder builder = new ProcessBuilder(
+        Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar", jar.toString());
+    builder.environment().putAll(Map.of(
+        "SERVER_PORT", Integer.toString(port),
+        "DB_HOST", database.getHost(),
+        "DB_PORT", Integer.toString(database.getMappedPort(3306)),
+        "DB_NAME", DB_NAME,
+        "DB_USER", database.getUsername(),
+        "DB_PASS", database.getPassword(),
+        "UPLOAD_DIR", uploadDir.toString(),
+        "VIRTUAL_THREADS_ENABLED", options.getOrDefault("virtual-threads", "true")));
+    Path log = Path.of("target", "backend.log");
+    Files.createDirectories(log.getParent());
+    builder.redirectErrorStream(true).redirectOutput(log.toFile());
+    Process backend = builder.start();
+
+    LocalEnvironment environment = new LocalEnvironment(database, backend, uploadDir,
+        "http://localhost:" + port);
+    try {
+      environment.awaitHealthy();
+    } catch (Exception ex) {
+      environment.close();
+      throw ex;
+    }
+    System.out.printf("Entorno local: %s (MariaDB %s, log en %s)%n",
+        environment.baseUrl, database.getJdbcUrl(), log);
+    return environment;
+  }
+
+  public String baseUrl() {
+    return baseUrl;
+  }
+
+  public Path uploadDir() {
+    return uploadDir;
+  }
+
+  public String jdbcUrl() {
+    return database.getJdbcUrl();
+  }
+
+  public String dbUser() {
+    return database.getUsername();
+  }
+
+  public String dbPassword() {
+    return database.getPassword();
+  }
+
+  @Override
+  public void close() {
+    backend.destroy();
+    try {
+      backend.waitFor();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    database.stop();
+  }
+
+  private void awaitHealthy() throws Exception {
+    ApiClient client = new ApiClient(baseUrl, Duration.ofSeconds(2));
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!backend.isAlive()) {
+        throw new IllegalStateException("El backend termino al arrancar (codigo " + backend.exitValue() + ")");
+      }
+      try {
+        HttpResponse<Void> response = client.getDiscarding("/actuator/health", null);
+        if (response.statusCode() == 200) {
+          return;
+        }
+      } catch (IOException starting) {
+        Thread.sleep(500);
+        continue;
+      }
+      Thread.sleep(500);
+    }
+    throw new IllegalStateException("El backend no arranco en " + STARTUP_TIMEOUT.toSeconds() + "s");
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
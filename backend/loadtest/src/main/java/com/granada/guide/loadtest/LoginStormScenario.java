@@ -0,0 +1,29 @@
+package com.granada.guide.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public class LoginStormScenario implements Scenario {
+  private final int users;
+  private final String password;
+
+  public LoginStormScenario(int users, String password) {
+    if (users <= 0) {
+      throw new IllegalArgumentException("El escenario login necesita --users > 0 (usuarios del generador)");
+    }
+    this.users = users;
+    this.password = password;
+  }
+
+  @Override
+  public String name() {
+    return "login";
+  }
+
+  @Override
+  public boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception {
+    String email = DatasetGenerator.email(1 + random.nextInt(users));
+    return client.postJson("/api/auth/login", null, Map.of("email", email, "password", password))
+        .hasNonNull("token");
+  }
+}
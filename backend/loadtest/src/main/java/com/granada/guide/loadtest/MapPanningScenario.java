@@ -0,0 +1,25 @@
+package com.granada.guide.loadtest;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+public class MapPanningScenario implements Scenario {
+  private static final double MIN_SPAN_DEG = 0.004;
+  private static final double MAX_SPAN_DEG = 0.04;
+  private static final double ASPECT = 1.6;
+
+  @Override
+  public String name() {
+    return "map";
+  }
+
+  @Override
+  public boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception {
+    double[] center = GranadaGeography.sampleViewportCenter(random);
+    double latSpan = random.nextDouble(MIN_SPAN_DEG, MAX_SPAN_DEG);
+    double lngSpan = latSpan * ASPECT;
+    String bbox = String.format(Locale.ROOT, "%.6f,%.6f,%.6f,%.6f",
+        center[1] - lngSpan / 2, center[0] - latSpan / 2, center[1] + lngSpan / 2, center[0] + latSpan / 2);
+    return client.getDiscarding("/api/places?bbox=" + bbox, token).statusCode() == 200;
+  }
+}
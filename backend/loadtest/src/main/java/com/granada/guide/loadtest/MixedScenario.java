@@ -0,0 +1,26 @@
+package com.granada.guide.loadtest;
+
+import java.util.SplittableRandom;
+
+public class MixedScenario implements Scenario {
+  private final Scenario places = new PlaceListScenario();
+  private final Scenario photos = new PhotoDownloadScenario();
+
+  @Override
+  public String name() {
+    return "mixed";
+  }
+
+  @Override
+  public void prepare(ApiClient client, String token) throws Exception {
+    places.prepare(client, token);
+    photos.prepare(client, token);
+  }
+
+  @Override
+  public boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception {
+    return random.nextBoolean()
+        ? places.execute(client, token, random)
+        : photos.execute(client, token, random);
+  }
+}
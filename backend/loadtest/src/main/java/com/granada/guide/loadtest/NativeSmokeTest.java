@@ -0,0 +1,178 @@
+package com.granada.guide.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+public class NativeSmokeTest {
+  private static final Map<String, String> DEFAULTS = Map.ofEntries(
+      Map.entry("binary", "../target/granada-guide-backend"),
+      Map.entry("db-image", "mariadb:10.11"),
+      Map.entry("password", "smoke-pass-123"),
+      Map.entry("actuator-password", "smoke-actuator-123")
+  );
+  private static final String DB_NAME = "granada_guide";
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = LoadTest.parse(args, DEFAULTS);
+    Path binary = Path.of(options.get("binary")).toAbsolutePath();
+    if (!Files.isExecutable(binary)) {
+      throw new IllegalStateException("No existe " + binary + ": ejecuta antes mvn -Pnative native:compile en backend");
+    }
+
+    try (MariaDBContainer<?> database = new MariaDBContainer<>(DockerImageName.parse(options.get("db-image")))
+        .withDatabaseName(DB_NAME)
+        .withUsername("granada")
+        .withPassword("granada_pass")) {
+      database.start();
+      Path uploadDir = Files.createTempDirectory("granada-native-uploads");
+      int port = freePort();
+      Path log = Path.of("target", "native-backend.log").toAbsolutePath();
+      Files.createDirectories(log.getParent());
+      ProcessBuilder builder = new ProcessBuilder(binary.toString());
+      builder.environment().putAll(new HashMap<>(Map.of(
+          "SERVER_PORT", Integer.toString(port),
+          "DB_HOST", database.getHost(),
+          "DB_PORT", Integer.toString(database.getMappedPort(3306)),
+          "DB_NAME", DB_NAME,
+          "DB_USER", database.getUsername(),
+          "DB_PASS", database.getPassword(),
+          "UPLOAD_DIR", uploadDir.toString(),
+          "ACTUATOR_PASSWORD", options.get("actuator-password"))));
+      builder.redirectErrorStream(true).redirectOutput(log.toFile());
+
+      long start = System.nanoTime();
+      Process backend = builder.start();
+      try {
+        ApiClient client = new ApiClient("http://localhost:" + port, Duration.ofSeconds(10));
+        awaitHealthy(backend, client);
+        long readyMs = (System.nanoTime() - start) / 1_000_000;
+        long rssAfterStartKb = rssKb(backend.pid());
+
+        int failures = run(client, options.get("password"), options.get("actuator-password"));
+        System.out.printf("Arranque hasta health: %dms, RSS: %d MB tras arrancar, %d MB tras las pruebas (log en %s)%n",
+            readyMs, rssAfterStartKb / 1024, rssKb(backend.pid()) / 1024, log);
+        if (failures > 0) {
+          System.out.printf("%d comprobaciones fallidas%n", failures);
+          System.exit(1);
+        }
+      } finally {
+        backend.destroy();
+        backend.waitFor();
+      }
+    }
+  }
+
+  private static int run(ApiClient client, String password, String actuatorPassword) throws Exception {
+    String email = "smoke-" + System.currentTimeMillis() + "@granada.test";
+    String token = client.postJson("/api/auth/register", null,
+        Map.of("email", email, "password", password, "name", "Smoke")).get("token").asText();
+
+    int failures = 0;
+    failures += check("POST /api/auth/login", () -> client.login(email, password));
+    failures += check("GET /api/me", () -> client.getJson("/api/me", token));
+    failures += check("GET /api/categories", () -> client.getJson("/api/categories", token));
+    JsonNode place = client.postJson("/api/places", token, Map.of(
+        "name", "Mirador de San Nicolas", "lat", 37.1811, "lng", -3.5925, "status", "PENDING"));
+    long placeId = place.get("id").asLong();
+    failures += check("GET /api/places", () -> client.getJson("/api/places", token));
+    failures += check("GET /api/places?bbox", () ->
+        client.getJson("/api/places?bbox=-3.62,37.16,-3.57,37.20", token));
+    failures += check("GET /api/places/map", () -> client.getJson("/api/places/map", token));
+    failures += check("GET /api/places/{id}", () -> client.getJson("/api/places/" + placeId, token));
+    failures += check("GET /api/places/search", () -> client.getJson("/api/places/search?q=mirador", token));
+    failures += check("POST /api/places/{id}/comments", () ->
+        client.postJson("/api/places/" + placeId + "/comments", token, Map.of("text", "Atardecer")));
+    failures += check("GET /api/places/{id}/comments", () ->
+        client.getJson("/api/places/" + placeId + "/comments", token));
+    failures += check("GET /api/places/{id}/photos", () ->
+        client.getJson("/api/places/" + placeId + "/photos", token));
+    failures += check("GET /api/places/{id}/detail", () ->
+        client.getJson("/api/places/" + placeId + "/detail", token));
+    failures += check("POST /api/batch", () -> client.postJson("/api/batch", token, Map.of(
+        "atomic", true,
+        "operations", List.of(
+            Map.of("type", "CREATE_PLACE", "body", Map.of(
+                "name", "Carmen de los Martires", "lat", 37.1716, "lng", -3.5868, "status", "PENDING")),
+            Map.of("type", "UPDATE_MY_STATUS", "placeRef", 0, "body", Map.of("favorite", true)),
+            Map.of("type", "CREATE_COMMENT", "placeRef", 0, "body", Map.of("text", "Jardines"))))));
+    failures += check("GET /actuator/health", () -> expect(client.get("/actuator/health", null), 200));
+    failures += check("GET /actuator/prometheus sin credenciales", () ->
+        expect(client.get("/actuator/prometheus", null), 401));
+    failures += check("GET /actuator/prometheus", () ->
+        expect(client.getWithBasicAuth("/actuator/prometheus", "metrics", actuatorPassword), 200));
+    return failures;
+  }
+
+  private static Object expect(HttpResponse<byte[]> response, int status) throws IOException {
+    if (response.statusCode() != status) {
+      throw new IOException(response.request().method() + " " + response.uri().getPath() + " -> "
+          + response.statusCode() + ", se esperaba " + status);
+    }
+    return null;
+  }
+
+  private static int check(String name, Call call) {
+    long start = System.nanoTime();
+    try {
+      call.run();
+      System.out.printf("OK    %6.1fms %s%n", (System.nanoTime() - start) / 1_000_000.0, name);
+      return 0;
+    } catch (Exception ex) {
+      System.out.printf("FALLO %6.1fms %s: %s%n", (System.nanoTime() - start) / 1_000_000.0, name, ex.getMessage());
+      return 1;
+    }
+  }
+
+  private static void awaitHealthy(Process backend, ApiClient client) throws Exception {
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!backend.isAlive()) {
+        throw new IllegalStateException("El backend termino al arrancar (codigo " + backend.exitValue() + ")");
+      }
+      try {
+        if (client.getDiscarding("/actuator/health", null).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException starting) {
+        Thread.sleep(20);
+        continue;
+      }
+      Thread.sleep(20);
+    }
+    throw new IllegalStateException("El backend no arranco en " + STARTUP_TIMEOUT.toSeconds() + "s");
+  }
+
+  private static long rssKb(long pid) throws IOException {
+    Path status = Path.of("/proc", Long.toString(pid), "status");
+    if (!Files.exists(status)) {
+      return -1;
+    }
+    for (String line : Files.readAllLines(status)) {
+      if (line.startsWith("VmRSS:")) {
+        return Long.parseLong(line.replaceAll("\\D+", ""));
+      }
+    }
+    return -1;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private interface Call {
+    Object run() throws Exception;
+  }
+}
@@ -0,0 +1,45 @@
+package com.granada.guide.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PhotoDownloadScenario implements Scenario {
+  private static final int MAX_PLACES_SCANNED = 50;
+
+  private final Map<String, List<String>> fileUrls = new ConcurrentHashMap<>();
+
+  @Override
+  public String name() {
+    return "photos";
+  }
+
+  @Override
+  public void prepare(ApiClient client, String token) throws Exception {
+    List<String> urls = new ArrayList<>();
+    JsonNode places = client.getJson("/api/places", token);
+    int scanned = 0;
+    for (JsonNode place : places) {
+      if (scanned++ >= MAX_PLACES_SCANNED) {
+        break;
+      }
+      for (JsonNode photo : client.getJson("/api/places/" + place.get("id").asLong() + "/photos", token)) {
+        urls.add(photo.get("url").asText());
+      }
+    }
+    if (urls.isEmpty()) {
+      throw new IllegalStateException("No hay fotos que descargar: sube alguna o usa el generador de datos");
+    }
+    fileUrls.put(token, urls);
+  }
+
+  @Override
+  public boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception {
+    List<String> urls = fileUrls.get(token);
+    String url = urls.get(random.nextInt(urls.size()));
+    return client.getDiscarding(url, token).statusCode() == 200;
+  }
+}
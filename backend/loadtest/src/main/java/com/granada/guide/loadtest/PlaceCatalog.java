@@ -0,0 +1,31 @@
+package com.granada.guide.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PlaceCatalog {
+  private final Map<String, long[]> placeIds = new ConcurrentHashMap<>();
+
+  public void load(ApiClient client, String token) throws Exception {
+    if (placeIds.containsKey(token)) {
+      return;
+    }
+    JsonNode places = client.getJson("/api/places", token);
+    long[] ids = new long[places.size()];
+    int i = 0;
+    for (JsonNode place : places) {
+      ids[i++] = place.get("id").asLong();
+    }
+    if (ids.length == 0) {
+      throw new IllegalStateException("El usuario no ve ningun sitio: usa el generador de datos");
+    }
+    placeIds.put(token, ids);
+  }
+
+  public long randomPlace(String token, SplittableRandom random) {
+    long[] ids = placeIds.get(token);
+    return ids[random.nextInt(ids.length)];
+  }
+}
@@ -0,0 +1,15 @@
+package com.granada.guide.loadtest;
+
+import java.util.SplittableRandom;
+
+public class PlaceListScenario implements Scenario {
+  @Override
+  public String name() {
+    return "places";
+  }
+
+  @Override
+  public boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception {
+    return client.getDiscarding("/api/places", token).statusCode() == 200;
+  }
+}
@@ -0,0 +1,29 @@
+package com.granada.guide.loadtest;
+
+import java.util.SplittableRandom;
+
+public class PlaceOpenScenario implements Scenario {
+  private final PlaceCatalog catalog;
+
+  public PlaceOpenScenario(PlaceCatalog catalog) {
+    this.catalog = catalog;
+  }
+
+  @Override
+  public String name() {
+    return "place";
+  }
+
+  @Override
+  public void prepare(ApiClient client, String token) throws Exception {
+    catalog.load(client, token);
+  }
+
+  @Override
+  public boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception {
+    String path = "/api/places/" + catalog.randomPlace(token, random);
+    return client.getDiscarding(path, token).statusCode() == 200
+        && client.getDiscarding(path + "/comments", token).statusCode() == 200
+        && client.getDiscarding(path + "/photos", token).statusCode() == 200;
+  }
+}
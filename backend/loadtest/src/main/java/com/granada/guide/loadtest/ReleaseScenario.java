@@ -0,0 +1,41 @@
+package com.granada.guide.loadtest;
+
+import java.util.SplittableRandom;
+
+public class ReleaseScenario implements Scenario {
+  private final Scenario map = new MapPanningScenario();
+  private final Scenario place;
+  private final Scenario gallery;
+  private final Scenario login;
+
+  public ReleaseScenario(PlaceCatalog catalog, int users, String password) {
+    this.place = new PlaceOpenScenario(catalog);
+    this.gallery = new GalleryScenario(catalog);
+    this.login = new LoginStormScenario(users, password);
+  }
+
+  @Override
+  public String name() {
+    return "release";
+  }
+
+  @Override
+  public void prepare(ApiClient client, String token) throws Exception {
+    place.prepare(client, token);
+  }
+
+  @Override
+  public boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception {
+    int roll = random.nextInt(100);
+    if (roll < 50) {
+      return map.execute(client, token, random);
+    }
+    if (roll < 80) {
+      return place.execute(client, token, random);
+    }
+    if (roll < 95) {
+      return gallery.execute(client, token, random);
+    }
+    return login.execute(client, token, random);
+  }
+}
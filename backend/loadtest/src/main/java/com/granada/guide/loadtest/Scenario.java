@@ -0,0 +1,11 @@
+package com.granada.guide.loadtest;
+
+import java.util.SplittableRandom;
+
+public interface Scenario {
+  String name();
+
+  default void prepare(ApiClient client, String token) throws Exception {}
+
+  boolean execute(ApiClient client, String token, SplittableRandom random) throws Exception;
+}
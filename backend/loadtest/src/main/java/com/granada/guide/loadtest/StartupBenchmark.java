@@ -0,0 +1,191 @@
+package com.granada.guide.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpResponse;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+public class StartupBenchmark {
+  private static final Map<String, String> DEFAULTS = Map.ofEntries(
+      Map.entry("backend-jar", "../target/granada-guide-backend-0.1.0.jar"),
+      Map.entry("cds-dir", "../target/cds"),
+      Map.entry("db-image", "mariadb:10.11"),
+      Map.entry("variants", "default,prod,prod-cds"),
+      Map.entry("runs", "5")
+  );
+  private static final String DB_NAME = "granada_guide";
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+  private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = LoadTest.parse(args, DEFAULTS);
+    List<String> variants = Arrays.stream(options.get("variants").split(","))
+        .map(String::trim)
+        .filter(variant -> !variant.isEmpty())
+        .toList();
+    int runs = Integer.parseInt(options.get("runs"));
+
+    try (MariaDBContainer<?> database = new MariaDBContainer<>(DockerImageName.parse(options.get("db-image")))
+        .withDatabaseName(DB_NAME)
+        .withUsername("granada")
+        .withPassword("granada_pass")) {
+      database.start();
+      Path uploadDir = Files.createTempDirectory("granada-startup-uploads");
+      System.out.println("Migrando el esquema con un arranque previo...");
+      measure(launch("default", options), "default", database, uploadDir);
+
+      List<Map<String, Object>> reports = new ArrayList<>();
+      for (String variant : variants) {
+        Launch launch = launch(variant, options);
+        if (launch == null) {
+          System.out.printf("%-9s omitido: no existe %s (ejecuta mvn -Pcds package)%n", variant,
+              options.get("cds-dir"));
+          continue;
+        }
+        long[] ready = new long[runs];
+        double[] started = new double[runs];
+        for (int i = 0; i < runs; i++) {
+          Run run = measure(launch, variant, database, uploadDir);
+          ready[i] = run.readyMs();
+          started[i] = run.startedSeconds();
+        }
+        Arrays.sort(ready);
+        Arrays.sort(started);
+        System.out.printf("%-9s runs=%d listo p50=%dms min=%dms max=%dms started p50=%.2fs%n",
+            variant, runs, ready[runs / 2], ready[0], ready[runs - 1], started[runs / 2]);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("variant", variant);
+        report.put("runs", runs);
+        report.put("readyP50Ms", ready[runs / 2]);
+        report.put("readyMinMs", ready[0]);
+        report.put("readyMaxMs", ready[runs - 1]);
+        report.put("startedP50Seconds", started[runs / 2]);
+        reports.add(report);
+      }
+      if (options.containsKey("out")) {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(Path.of(options.get("out")).toFile(), reports);
+      }
+    }
+  }
+
+  private static Launch launch(String variant, Map<String, String> options) throws IOException {
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    return switch (variant) {
+      case "default", "prod" -> {
+        Path jar = Path.of(options.get("backend-jar")).toAbsolutePath();
+        if (!Files.isRegularFile(jar)) {
+          throw new IllegalStateException("No existe " + jar + ": ejecuta antes mvn -DskipTests package en backend");
+        }
+        yield new Launch(List.of(java, "-jar", jar.toString()), null);
+      }
+      case "prod-cds" -> {
+        Path dir = Path.of(options.get("cds-dir")).toAbsolutePath();
+        Path archive = dir.resolve("application.jsa");
+        Path jar = cdsJar(dir);
+        if (jar == null || !Files.isRegularFile(archive)) {
+          yield null;
+        }
+        yield new Launch(List.of(java, "-XX:SharedArchiveFile=application.jsa", "-jar", jar.getFileName().toString()),
+            dir);
+      }
+      default -> throw new IllegalArgumentException("Variante desconocida: " + variant);
+    };
+  }
+
+  private static Path cdsJar(Path dir) throws IOException {
+    if (!Files.isDirectory(dir)) {
+      return null;
+    }
+    try (DirectoryStream<Path> jars = Files.newDirectoryStream(dir, "*-cds.jar")) {
+      for (Path jar : jars) {
+        return jar;
+      }
+    }
+    return null;
+  }
+
+  private static Run measure(Launch launch, String variant, MariaDBContainer<?> database,
+      Path uploadDir) throws Exception {
+    int port = freePort();
+    Path log = Path.of("target", "startup-" + variant + ".log").toAbsolutePath();
+    Files.createDirectories(log.getParent());
+    ProcessBuilder builder = new ProcessBuilder(launch.command());
+    if (launch.directory() != null) {
+      builder.directory(launch.directory().toFile());
+    }
+    Map<String, String> environment = new HashMap<>(Map.of(
+        "SERVER_PORT", Integer.toString(port),
+        "DB_HOST", database.getHost(),
+        "DB_PORT", Integer.toString(database.getMappedPort(3306)),
+        "DB_NAME", DB_NAME,
+        "DB_USER", database.getUsername(),
+        "DB_PASS", database.getPassword(),
+        "UPLOAD_DIR", uploadDir.toString(),
+        "WARMUP_ENABLED", "false"));
+    if (variant.startsWith("prod")) {
+      environment.put("SPRING_PROFILES_ACTIVE", "prod");
+    }
+    builder.environment().putAll(environment);
+    builder.redirectErrorStream(true).redirectOutput(log.toFile());
+
+    long start = System.nanoTime();
+    Process backend = builder.start();
+    try {
+      awaitHealthy(backend, "http://localhost:" + port);
+      long readyMs = (System.nanoTime() - start) / 1_000_000;
+      Matcher matcher = STARTED.matcher(Files.readString(log));
+      double startedSeconds = matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+      return new Run(readyMs, startedSeconds);
+    } finally {
+      backend.destroy();
+      backend.waitFor();
+    }
+  }
+
+  private static void awaitHealthy(Process backend, String baseUrl) throws Exception {
+    ApiClient client = new ApiClient(baseUrl, Duration.ofSeconds(2));
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!backend.isAlive()) {
+        throw new IllegalStateException("El backend termino al arrancar (codigo " + backend.exitValue() + ")");
+      }
+      try {
+        HttpResponse<Void> response = client.getDiscarding("/actuator/health", null);
+        if (response.statusCode() == 200) {
+          return;
+        }
+      } catch (IOException starting) {
+        Thread.sleep(50);
+        continue;
+      }
+      Thread.sleep(50);
+    }
+    throw new IllegalStateException("El backend no arranco en " + STARTUP_TIMEOUT.toSeconds() + "s");
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private record Launch(List<String> command, Path directory) {}
+
+  private record Run(long readyMs, double startedSeconds) {}
+}
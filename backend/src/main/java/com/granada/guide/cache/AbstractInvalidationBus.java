@@ -0,0 +1,105 @@
+package com.granada.guide.cache;
+
+import com.granada.guide.event.CacheInvalidation;
+import com.granada.guide.event.CacheRegion;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+public abstract class AbstractInvalidationBus implements InvalidationBus {
+  private static final Logger log = LoggerFactory.getLogger(AbstractInvalidationBus.class);
+
+  protected final String nodeId = UUID.randomUUID().toString().replace("-", "");
+  private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService sender = Executors.newSingleThreadExecutor(
+      Thread.ofPlatform().name("cache-invalidation-send").daemon().factory());
+
+  protected AbstractInvalidationBus(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void publish(CacheInvalidation invalidation) {
+    sender.execute(() -> {
+      try {
+        send(invalidation);
+        count("sent", invalidation.region());
+      } catch (RuntimeException | SQLException ex) {
+        count("failed", invalidation.region());
+        log.warn("No se pudo publicar la invalidacion {}: {}", invalidation, ex.getMessage());
+      }
+    });
+  }
+
+  @Override
+  public void subscribe(Consumer<CacheInvalidation> listener) {
+    listeners.add(listener);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    startListening();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    stopListening();
+    sender.shutdown();
+  }
+
+  protected abstract void send(CacheInvalidation invalidation) throws SQLException;
+
+  protected abstract void startListening();
+
+  protected abstract void stopListening();
+
+  protected void receive(String origin, CacheInvalidation invalidation) {
+    if (!nodeId.equals(origin)) {
+      deliver(invalidation);
+    }
+  }
+
+  protected void deliver(CacheInvalidation invalidation) {
+    count("received", invalidation.region());
+    for (Consumer<CacheInvalidation> listener : listeners) {
+      try {
+        listener.accept(invalidation);
+      } catch (RuntimeException ex) {
+        log.warn("Fallo al aplicar la invalidacion {}: {}", invalidation, ex.getMessage());
+      }
+    }
+  }
+
+  protected String encode(CacheInvalidation invalidation) {
+    return nodeId + "|" + invalidation.region() + "|" + (invalidation.key() == null ? "" : invalidation.key());
+  }
+
+  protected void receive(String payload) {
+    String[] parts = payload.split("\\|", -1);
+    if (parts.length != 3) {
+      log.warn("Invalidacion con formato desconocido: {}", payload);
+      return;
+    }
+    try {
+      receive(parts[0], new CacheInvalidation(CacheRegion.valueOf(parts[1]),
+          parts[2].isEmpty() ? null : Long.valueOf(parts[2])));
+    } catch (IllegalArgumentException ex) {
+      log.warn("Invalidacion con formato desconocido: {}", payload);
+    }
+  }
+
+  private void count(String direction, CacheRegion region) {
+    meterRegistry.counter("cache.invalidations", "direction", direction, "region", region.name()).increment();
+  }
+}
@@ -0,0 +1,89 @@
+package com.granada.guide.cache;
+
+import com.granada.guide.entity.Category;
+import com.granada.guide.event.CacheInvalidation;
+import com.granada.guide.event.CacheRegion;
+import com.granada.guide.event.GroupChangeEvent;
+import com.granada.guide.event.UserPlacesChangedEvent;
+import com.granada.guide.service.PlaceAutocompleteService;
+import com.granada.guide.service.PlaceListCache;
+import com.granada.guide.service.PlaceSnapshotService;
+import com.granada.guide.service.RequestCoalescer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CacheInvalidator {
+  private final InvalidationBus invalidationBus;
+  private final PlaceSnapshotService placeSnapshotService;
+  private final PlaceListCache placeListCache;
+  private final PlaceAutocompleteService placeAutocompleteService;
+  private final EntityManagerFactory entityManagerFactory;
+  private final RequestCoalescer requestCoalescer;
+
+  public CacheInvalidator(InvalidationBus invalidationBus,
+      PlaceSnapshotService placeSnapshotService,
+      PlaceListCache placeListCache,
+      PlaceAutocompleteService placeAutocompleteService,
+      EntityManagerFactory entityManagerFactory,
+      RequestCoalescer requestCoalescer) {
+    this.invalidationBus = invalidationBus;
+    this.placeSnapshotService = placeSnapshotService;
+    this.placeListCache = placeListCache;
+    this.placeAutocompleteService = placeAutocompleteService;
+    this.entityManagerFactory = entityManagerFactory;
+    this.requestCoalescer = requestCoalescer;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    invalidationBus.subscribe(this::evict);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onGroupChange(GroupChangeEvent event) {
+    switch (event.type()) {
+      case PLACE_CREATED, PLACE_UPDATED, PLACE_DELETED ->
+          invalidationBus.publish(new CacheInvalidation(CacheRegion.GROUP_PLACES, event.groupId()));
+      case COMMENT_CREATED -> requestCoalescer.recordWrite("comments", event.placeId());
+      case PHOTO_UPLOADED, PHOTO_DELETED -> requestCoalescer.recordWrite("photos", event.placeId());
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onUserPlacesChanged(UserPlacesChangedEvent event) {
+    invalidationBus.publish(new CacheInvalidation(CacheRegion.USER_PLACES, event.userId()));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onInvalidation(CacheInvalidation invalidation) {
+    invalidationBus.publish(invalidation);
+  }
+
+  void evict(CacheInvalidation invalidation) {
+    Cache secondLevel = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    switch (invalidation.region()) {
+      case GROUP_PLACES -> {
+        placeSnapshotService.reload(invalidation.key());
+        placeAutocompleteService.reload(invalidation.key());
+      }
+      case USER_PLACES -> placeListCache.invalidateUser(invalidation.key());
+      case CATEGORIES -> {
+        secondLevel.evictEntityData(Category.class);
+        secondLevel.evictDefaultQueryRegion();
+      }
+      case ALL -> {
+        secondLevel.evictAllRegions();
+        placeSnapshotService.reloadAll();
+        placeAutocompleteService.reloadAll();
+        placeListCache.invalidateAll();
+      }
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.granada.guide.cache;
+
+import com.granada.guide.event.CacheInvalidation;
+import java.util.function.Consumer;
+
+public interface InvalidationBus {
+  void publish(CacheInvalidation invalidation);
+
+  void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,15 @@
+package com.granada.guide.cache;
+
+import com.granada.guide.event.CacheInvalidation;
+import java.util.function.Consumer;
+
+public class LocalInvalidationBus implements InvalidationBus {
+
+  @Override
+  public void publish(CacheInvalidation invalidation) {
+  }
+
+  @Override
+  public void subscribe(Consumer<CacheInvalidation> listener) {
+  }
+}
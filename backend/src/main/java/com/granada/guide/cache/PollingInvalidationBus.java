@@ -0,0 +1,118 @@
+package com.granada.guide.cache;
+
+import com.granada.guide.entity.InvalidationNotice;
+import com.granada.guide.event.CacheInvalidation;
+import com.granada.guide.event.CacheRegion;
+import com.granada.guide.repository.InvalidationNoticeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+
+public class PollingInvalidationBus extends AbstractInvalidationBus {
+  private static final Logger log = LoggerFactory.getLogger(PollingInvalidationBus.class);
+  private static final int BATCH_SIZE = 500;
+  private static final Duration SETTLE = Duration.ofSeconds(10);
+  private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(10);
+
+  private final InvalidationNoticeRepository repository;
+  private final long pollIntervalMs;
+  private final Duration retention;
+  private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("cache-invalidation-poll").daemon().factory());
+  private final Set<Long> delivered = new HashSet<>();
+  private final Deque<long[]> sightings = new ArrayDeque<>();
+  private Long watermark;
+  private boolean resetPending;
+  private Instant nextCleanup = Instant.EPOCH;
+
+  public PollingInvalidationBus(InvalidationNoticeRepository repository,
+      long pollIntervalMs,
+      Duration retention,
+      MeterRegistry meterRegistry) {
+    super(meterRegistry);
+    this.repository = repository;
+    this.pollIntervalMs = pollIntervalMs;
+    this.retention = retention;
+  }
+
+  @Override
+  protected void send(CacheInvalidation invalidation) {
+    InvalidationNotice notice = new InvalidationNotice();
+    notice.setOrigin(nodeId);
+    notice.setRegion(invalidation.region());
+    notice.setKey(invalidation.key());
+    repository.save(notice);
+  }
+
+  @Override
+  protected void startListening() {
+    poller.scheduleWithFixedDelay(this::pollSafely, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected void stopListening() {
+    poller.shutdownNow();
+  }
+
+  private void pollSafely() {
+    try {
+      poll();
+    } catch (RuntimeException ex) {
+      if (!resetPending) {
+        log.warn("No se pudieron leer las invalidaciones: {}", ex.getMessage());
+      }
+      resetPending = watermark != null;
+    }
+  }
+
+  void poll() {
+    if (watermark == null) {
+      watermark = repository.findMaxId();
+    }
+    Instant now = Instant.now();
+    long seenAt = System.nanoTime();
+    List<InvalidationNotice> notices = repository.findByIdGreaterThanOrderByIdAsc(watermark,
+        PageRequest.of(0, BATCH_SIZE));
+    if (resetPending) {
+      log.info("Lectura de invalidaciones restablecida; se vacian las caches locales");
+      deliver(new CacheInvalidation(CacheRegion.ALL, null));
+      resetPending = false;
+    }
+    long highest = watermark;
+    while (true) {
+      for (InvalidationNotice notice : notices) {
+        if (delivered.add(notice.getId())) {
+          receive(notice.getOrigin(), new CacheInvalidation(notice.getRegion(), notice.getKey()));
+        }
+        highest = Math.max(highest, notice.getId());
+      }
+      if (notices.size() < BATCH_SIZE) {
+        break;
+      }
+      notices = repository.findByIdGreaterThanOrderByIdAsc(highest, PageRequest.of(0, BATCH_SIZE));
+    }
+    if (sightings.isEmpty() || sightings.peekLast()[1] < highest) {
+      sightings.addLast(new long[] {seenAt, highest});
+    }
+    while (!sightings.isEmpty() && seenAt - sightings.peekFirst()[0] >= SETTLE.toNanos()) {
+      watermark = Math.max(watermark, sightings.removeFirst()[1]);
+    }
+    long floor = watermark;
+    delivered.removeIf(id -> id <= floor);
+    if (now.isAfter(nextCleanup)) {
+      repository.deleteOlderThan(now.minus(retention));
+      nextCleanup = now.plus(CLEANUP_INTERVAL);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.granada.guide.cache;
+
+import com.granada.guide.event.CacheInvalidation;
+import com.granada.guide.event.CacheRegion;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+public class PostgresInvalidationBus extends AbstractInvalidationBus {
+  private static final Logger log = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+  private static final String CHANNEL = "cache_invalidation";
+  private static final int WAIT_MS = 1000;
+
+  private final DataSource dataSource;
+  private final DataSourceProperties properties;
+  private final Duration reconnectDelay;
+  private final Duration heartbeat;
+  private volatile Thread listener;
+
+  public PostgresInvalidationBus(DataSource dataSource,
+      DataSourceProperties properties,
+      Duration reconnectDelay,
+      Duration heartbeat,
+      MeterRegistry meterRegistry) {
+    super(meterRegistry);
+    this.dataSource = dataSource;
+    this.properties = properties;
+    this.reconnectDelay = reconnectDelay;
+    this.heartbeat = heartbeat;
+  }
+
+  @Override
+  protected void send(CacheInvalidation invalidation) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+      statement.setString(1, CHANNEL);
+      statement.setString(2, encode(invalidation));
+      statement.execute();
+    }
+  }
+
+  @Override
+  protected void startListening() {
+    listener = Thread.ofPlatform().name("cache-invalidation-listen").daemon().start(this::listen);
+  }
+
+  @Override
+  protected void stopListening() {
+    Thread current = listener;
+    listener = null;
+    if (current != null) {
+      current.interrupt();
+    }
+  }
+
+  private void listen() {
+    boolean reconnecting = false;
+    while (listener == Thread.currentThread()) {
+      try (Connection connection = DriverManager.getConnection(properties.determineUrl(),
+          connectionProperties());
+          Statement statement = connection.createStatement()) {
+        statement.execute("LISTEN " + CHANNEL);
+        if (reconnecting) {
+          log.info("Escucha de invalidaciones restablecida; se vacian las caches locales");
+          deliver(new CacheInvalidation(CacheRegion.ALL, null));
+        }
+        reconnecting = true;
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long nextHeartbeat = System.nanoTime() + heartbeat.toNanos();
+        while (listener == Thread.currentThread()) {
+          if (System.nanoTime() - nextHeartbeat >= 0) {
+            statement.execute("SELECT 1");
+            nextHeartbeat = System.nanoTime() + heartbeat.toNanos();
+          }
+          PGNotification[] notifications = pgConnection.getNotifications(WAIT_MS);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              receive(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException ex) {
+        if (listener != Thread.currentThread()) {
+          return;
+        }
+        log.warn("Se perdio la escucha de invalidaciones, reintento en {}s: {}", reconnectDelay.toSeconds(),
+            ex.getMessage());
+        try {
+          Thread.sleep(reconnectDelay);
+        } catch (InterruptedException interrupted) {
+          return;
+        }
+      }
+    }
+  }
+
+  private Properties connectionProperties() {
+    Properties connectionProperties = new Properties();
+    if (properties.determineUsername() != null) {
+      connectionProperties.setProperty("user", properties.determineUsername());
+    }
+    if (properties.determinePassword() != null) {
+      connectionProperties.setProperty("password", properties.determinePassword());
+    }
+    connectionProperties.setProperty("tcpKeepAlive", "true");
+    connectionProperties.setProperty("connectTimeout", String.valueOf(heartbeat.toSeconds()));
+    connectionProperties.setProperty("socketTimeout", String.valueOf(heartbeat.toSeconds() * 2));
+    return connectionProperties;
+  }
+}
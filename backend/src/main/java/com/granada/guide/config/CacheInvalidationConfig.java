@@ -0,0 +1,50 @@
+package com.granada.guide.config;
+
+import com.granada.guide.cache.InvalidationBus;
+import com.granada.guide.cache.LocalInvalidationBus;
+import com.granada.guide.cache.PollingInvalidationBus;
+import com.granada.guide.cache.PostgresInvalidationBus;
+import com.granada.guide.repository.InvalidationNoticeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+  @Bean
+  public InvalidationBus invalidationBus(DataSource dataSource,
+      DataSourceProperties dataSourceProperties,
+      InvalidationNoticeRepository invalidationNoticeRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.cache.invalidation.mode:auto}") String mode,
+      @Value("${spring.jpa.properties.hibernate.dialect:}") String dialect,
+      @Value("${app.cache.invalidation.poll-interval-ms:1000}") long pollIntervalMs,
+      @Value("${app.cache.invalidation.retention-minutes:60}") long retentionMinutes,
+      @Value("${app.cache.invalidation.reconnect-seconds:5}") long reconnectSeconds,
+      @Value("${app.cache.invalidation.heartbeat-seconds:15}") long heartbeatSeconds) {
+    Mode selected = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+    if (selected == Mode.AUTO) {
+      selected = dialect.contains("PostgreSQL") ? Mode.POSTGRES : Mode.POLLING;
+    }
+    return switch (selected) {
+      case POSTGRES -> new PostgresInvalidationBus(dataSource, dataSourceProperties,
+          Duration.ofSeconds(reconnectSeconds), Duration.ofSeconds(heartbeatSeconds), meterRegistry);
+      case POLLING -> new PollingInvalidationBus(invalidationNoticeRepository, pollIntervalMs,
+          Duration.ofMinutes(retentionMinutes), meterRegistry);
+      default -> new LocalInvalidationBus();
+    };
+  }
+
+  private enum Mode {
+    AUTO,
+    POSTGRES,
+    POLLING,
+    NONE
+  }
+}
@@ -4,11 +4,13 @@ import com.granada.guide.entity.User;
 import com.granada.guide.repository.UserRepository;
 import com.granada.guide.service.GroupService;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
+@ConditionalOnProperty(prefix = "app.seed", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class DataSeeder implements CommandLineRunner {
   private static final String USER1_EMAIL = "test1@mail.com";
   private static final String USER2_EMAIL = "test2@mail.com";
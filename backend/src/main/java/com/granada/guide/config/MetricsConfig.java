@@ -0,0 +1,30 @@
+package com.granada.guide.config;
+
+import com.granada.guide.metrics.SqlBudgetProperties;
+import com.granada.guide.metrics.SqlStatementCounter;
+import com.granada.guide.metrics.SqlTimingDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class MetricsConfig {
+
+  @Bean
+  public static BeanPostProcessor sqlTimingDataSourcePostProcessor(ObjectProvider<SqlStatementCounter> counter) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+            && !(bean instanceof SqlTimingDataSource)) {
+          return new SqlTimingDataSource(dataSource, counter::getObject);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,55 @@
+package com.granada.guide.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+public class MigrationResourceProvider implements ResourceProvider {
+  private final List<LoadableResource> resources = new ArrayList<>();
+
+  public MigrationResourceProvider(Location[] locations, ClassLoader classLoader, Charset encoding) {
+    PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+    for (Location location : locations) {
+      if (!location.isClassPath()) {
+        continue;
+      }
+      String root = location.getRootPath();
+      try {
+        for (Resource resource : resolver.getResources("classpath*:" + root + "/*")) {
+          String filename = resource.getFilename();
+          if (filename != null && !filename.isEmpty() && resource.isReadable()) {
+            resources.add(new ClassPathResource(location, root + "/" + filename, classLoader, encoding));
+          }
+        }
+      } catch (IOException ex) {
+        throw new UncheckedIOException("No se pudieron listar las migraciones de " + location, ex);
+      }
+    }
+  }
+
+  @Override
+  public LoadableResource getResource(String name) {
+    return resources.stream()
+        .filter(resource -> resource.getRelativePath().equals(name) || resource.getAbsolutePath().equals(name))
+        .findFirst()
+        .orElse(null);
+  }
+
+  @Override
+  public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+    return resources.stream()
+        .filter(resource -> resource.getFilename().startsWith(prefix))
+        .filter(resource -> Arrays.stream(suffixes).anyMatch(resource.getFilename()::endsWith))
+        .toList();
+  }
+}
@@ -0,0 +1,61 @@
+package com.granada.guide.config;
+
+import com.granada.guide.dto.PlaceDtos.PlaceColumns;
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.event.GroupChangeEvent;
+import com.granada.guide.event.PhotoFileRef;
+import java.util.List;
+import org.springframework.aot.AotDetector;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ImportRuntimeHints(NativeConfig.Hints.class)
+public class NativeConfig {
+
+  @Bean
+  public FlywayConfigurationCustomizer aotMigrationResources() {
+    return configuration -> {
+      if (AotDetector.useGeneratedArtifacts() && configuration.getResourceProvider() == null) {
+        configuration.resourceProvider(new MigrationResourceProvider(configuration.getLocations(),
+            configuration.getClassLoader(), configuration.getEncoding()));
+        configuration.javaMigrationClassProvider(List::of);
+      }
+    };
+  }
+
+  static class Hints implements RuntimeHintsRegistrar {
+    private static final String[] INSTANTIATED_BY_NAME = {
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+        "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+        "io.jsonwebtoken.jackson.io.JacksonSerializer",
+        "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+        "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "org.hibernate.cache.jcache.internal.JCacheRegionFactory"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+      hints.resources()
+          .registerPattern("db/migration/*.sql")
+          .registerPattern("db/migration/postgresql/*.sql")
+          .registerPattern("application.conf")
+          .registerPattern("reference.conf")
+          .registerPattern("META-INF/services/io.jsonwebtoken.*");
+      for (String type : INSTANTIATED_BY_NAME) {
+        hints.reflection().registerType(TypeReference.of(type),
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+      }
+      new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+          GroupChangeEvent.class, PhotoFileRef.class, PlaceResponse.class, PlaceColumns.class);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.granada.guide.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class ReplicaFallbackDataSource extends DelegatingDataSource {
+  private static final Logger log = LoggerFactory.getLogger(ReplicaFallbackDataSource.class);
+
+  private final DataSource primary;
+  private final long retryNanos;
+  private final Counter fallbacks;
+  private volatile boolean down;
+  private volatile long retryAt;
+
+  public ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration retryAfter,
+      MeterRegistry meterRegistry) {
+    super(replica);
+    this.primary = primary;
+    this.retryNanos = retryAfter.toNanos();
+    this.fallbacks = Counter.builder("db.replica.fallbacks").register(meterRegistry);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (down && System.nanoTime() - retryAt < 0) {
+      fallbacks.increment();
+      return primary.getConnection();
+    }
+    try {
+      Connection connection = super.getConnection();
+      down = false;
+      return connection;
+    } catch (SQLException ex) {
+      retryAt = System.nanoTime() + retryNanos;
+      down = true;
+      log.warn("Replica no disponible, lecturas al primario durante {} ms: {}",
+          retryNanos / 1_000_000, ex.getMessage());
+      fallbacks.increment();
+      return primary.getConnection();
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return getConnection();
+  }
+}
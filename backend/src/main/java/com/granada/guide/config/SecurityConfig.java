@@ -1,20 +1,31 @@
 package com.granada.guide.config;
 
+import com.granada.guide.metrics.TimedPasswordEncoder;
 import com.granada.guide.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
 
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
+  public static final String ACTUATOR_ROLE = "ACTUATOR";
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -23,11 +34,41 @@ public class SecurityConfig {
   }
 
   @Bean
+  @Order(1)
+  public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+      PasswordEncoder passwordEncoder,
+      @Value("${app.actuator.username:metrics}") String username,
+      @Value("${app.actuator.password:}") String password) throws Exception {
+    http.securityMatcher("/actuator/**")
+        .csrf(csrf -> csrf.disable())
+        .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+    if (StringUtils.hasText(password)) {
+      DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+      provider.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername(username)
+          .password(passwordEncoder.encode(password))
+          .roles(ACTUATOR_ROLE)
+          .build()));
+      http.authenticationManager(new ProviderManager(provider))
+          .httpBasic(Customizer.withDefaults())
+          .authorizeHttpRequests(auth -> auth
+              .requestMatchers("/actuator/health/**").permitAll()
+              .anyRequest().hasRole(ACTUATOR_ROLE));
+    } else {
+      http.authorizeHttpRequests(auth -> auth
+          .requestMatchers("/actuator/health/**").permitAll()
+          .anyRequest().denyAll());
+    }
+    return http.build();
+  }
+
+  @Bean
+  @Order(2)
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
     http.cors(Customizer.withDefaults())
         .csrf(csrf -> csrf.disable())
         .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(auth -> auth
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/error").permitAll()
             .anyRequest().authenticated()
         )
@@ -36,7 +77,7 @@ public class SecurityConfig {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+    return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
   }
 }
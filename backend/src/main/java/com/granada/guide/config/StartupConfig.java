@@ -0,0 +1,27 @@
+package com.granada.guide.config;
+
+import com.granada.guide.service.WarmupService;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+@Configuration
+public class StartupConfig {
+
+  @Bean
+  public static LazyInitializationExcludeFilter eagerPersistence() {
+    return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, Flyway.class,
+        FlywayMigrationInitializer.class, EntityManagerFactory.class, AbstractEntityManagerFactoryBean.class);
+  }
+
+  @Bean
+  public HealthIndicator warmupHealthIndicator(WarmupService warmupService) {
+    return warmupService::health;
+  }
+}
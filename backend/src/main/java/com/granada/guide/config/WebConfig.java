@@ -27,8 +27,9 @@ public class WebConfig implements WebMvcConfigurer {
 
     registry.addMapping("/api/**")
         .allowedOriginPatterns(origins)
-        .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
+        .allowedMethods("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
         .allowedHeaders("*")
+        .exposedHeaders("Location", "Upload-Offset", "Upload-Length")
         .allowCredentials(true);
   }
 
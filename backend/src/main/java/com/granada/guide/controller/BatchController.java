@@ -0,0 +1,28 @@
+package com.granada.guide.controller;
+
+import com.granada.guide.dto.BatchDtos.BatchRequest;
+import com.granada.guide.dto.BatchDtos.BatchResponse;
+import com.granada.guide.security.UserPrincipal;
+import com.granada.guide.service.BatchService;
+import jakarta.validation.Valid;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+  private final BatchService batchService;
+
+  public BatchController(BatchService batchService) {
+    this.batchService = batchService;
+  }
+
+  @PostMapping
+  public BatchResponse execute(@AuthenticationPrincipal UserPrincipal principal,
+      @Valid @RequestBody BatchRequest request) {
+    return batchService.execute(principal.getId(), request);
+  }
+}
@@ -1,30 +1,64 @@
 package com.granada.guide.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.granada.guide.dto.CategoryDtos.CategoryResponse;
 import com.granada.guide.dto.CategoryDtos.CreateCategoryRequest;
 import com.granada.guide.security.UserPrincipal;
 import com.granada.guide.service.CategoryService;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/categories")
 public class CategoryController {
   private final CategoryService categoryService;
+  private final ObjectMapper objectMapper;
+  private final CacheControl cacheControl;
 
-  public CategoryController(CategoryService categoryService) {
+  public CategoryController(CategoryService categoryService,
+      ObjectMapper objectMapper,
+      @Value("${app.categories.max-age-seconds:60}") long maxAgeSeconds) {
     this.categoryService = categoryService;
+    this.objectMapper = objectMapper;
+    this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePrivate();
   }
 
   @GetMapping
-  public List<CategoryResponse> list() {
-    return categoryService.list();
+  public ResponseEntity<List<CategoryResponse>> list(WebRequest request) {
+    List<CategoryResponse> categories = categoryService.list();
+    String etag = etag(categories);
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(cacheControl)
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .cacheControl(cacheControl)
+        .body(categories);
+  }
+
+  private String etag(List<CategoryResponse> categories) {
+    try {
+      return "W/\"" + UUID.nameUUIDFromBytes(objectMapper.writeValueAsBytes(categories)) + "\"";
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("No se pudo serializar el listado de categorias", ex);
+    }
   }
 
   @PostMapping
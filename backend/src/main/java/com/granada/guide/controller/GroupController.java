@@ -5,22 +5,28 @@ import com.granada.guide.dto.GroupDtos.GroupResponse;
 import com.granada.guide.dto.GroupDtos.InviteResponse;
 import com.granada.guide.dto.GroupDtos.JoinGroupRequest;
 import com.granada.guide.security.UserPrincipal;
+import com.granada.guide.service.GroupEventService;
 import com.granada.guide.service.GroupService;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/groups")
 public class GroupController {
   private final GroupService groupService;
+  private final GroupEventService groupEventService;
 
-  public GroupController(GroupService groupService) {
+  public GroupController(GroupService groupService, GroupEventService groupEventService) {
     this.groupService = groupService;
+    this.groupEventService = groupEventService;
   }
 
   @PostMapping
@@ -35,6 +41,12 @@ public class GroupController {
     return groupService.createInvite(principal.getId(), groupId);
   }
 
+  @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter events(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable("id") Long groupId) {
+    return groupEventService.subscribe(principal.getId(), groupId);
+  }
+
   @PostMapping("/join")
   public GroupResponse join(@AuthenticationPrincipal UserPrincipal principal,
       @Valid @RequestBody JoinGroupRequest request) {
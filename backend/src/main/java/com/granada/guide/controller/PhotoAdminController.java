@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -30,8 +31,9 @@ public class PhotoAdminController {
 
   @GetMapping("/{id}/file")
   public ResponseEntity<Resource> file(@AuthenticationPrincipal UserPrincipal principal,
-      @PathVariable("id") Long photoId) {
-    PhotoFile photoFile = photoService.loadFile(principal.getId(), photoId);
+      @PathVariable("id") Long photoId,
+      @RequestParam(value = "size", required = false) String size) {
+    PhotoFile photoFile = photoService.loadFile(principal.getId(), photoId, "thumb".equals(size));
     MediaType contentType = MediaType.APPLICATION_OCTET_STREAM;
     if (photoFile.contentType() != null && !photoFile.contentType().isBlank()) {
       contentType = MediaType.parseMediaType(photoFile.contentType());
@@ -1,30 +1,62 @@
 package com.granada.guide.controller;
 
+import com.granada.guide.dto.PlaceDtos;
 import com.granada.guide.dto.PlaceDtos.CreatePlaceRequest;
+import com.granada.guide.dto.PlaceDtos.NearbyPlace;
+import com.granada.guide.dto.PlaceDtos.PlaceCluster;
+import com.granada.guide.dto.PlaceDtos.PlaceDetailResponse;
+import com.granada.guide.dto.PlaceDtos.PlaceMarker;
 import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.dto.PlaceDtos.PlaceSuggestion;
+import com.granada.guide.dto.PlaceDtos.UpdateMyPlaceStatusRequest;
 import com.granada.guide.dto.PlaceDtos.UpdatePlaceRequest;
 import com.granada.guide.security.UserPrincipal;
+import com.granada.guide.service.PlaceAutocompleteService;
+import com.granada.guide.service.PlaceDetailService;
+import com.granada.guide.service.PlaceListCache;
+import com.granada.guide.service.PlaceListCache.CachedPlaceList;
 import com.granada.guide.service.PlaceService;
+import com.granada.guide.service.PlaceSnapshotService;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/places")
 public class PlaceController {
   private final PlaceService placeService;
+  private final PlaceAutocompleteService placeAutocompleteService;
+  private final PlaceDetailService placeDetailService;
+  private final PlaceSnapshotService placeSnapshotService;
+  private final PlaceListCache placeListCache;
 
-  public PlaceController(PlaceService placeService) {
+  public PlaceController(PlaceService placeService,
+      PlaceAutocompleteService placeAutocompleteService,
+      PlaceDetailService placeDetailService,
+      PlaceSnapshotService placeSnapshotService,
+      PlaceListCache placeListCache) {
     this.placeService = placeService;
+    this.placeAutocompleteService = placeAutocompleteService;
+    this.placeDetailService = placeDetailService;
+    this.placeSnapshotService = placeSnapshotService;
+    this.placeListCache = placeListCache;
   }
 
   @PostMapping
@@ -34,10 +66,68 @@ public class PlaceController {
   }
 
   @GetMapping
-  public List<PlaceResponse> list(@AuthenticationPrincipal UserPrincipal principal,
+  public ResponseEntity<?> list(@AuthenticationPrincipal UserPrincipal principal,
+      @RequestParam(value = "bbox", required = false) String bbox,
+      @RequestParam(value = "status", required = false) String status,
+      WebRequest request) {
+    if (StringUtils.hasText(bbox)) {
+      return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT)
+          .body(placeService.listPlaces(principal.getId(), bbox, status));
+    }
+    return cached(placeListCache.list(principal.getId(), status, false), MediaType.APPLICATION_JSON, request);
+  }
+
+  @GetMapping(produces = PlaceDtos.COLUMNAR_MEDIA_TYPE)
+  public ResponseEntity<?> listColumns(@AuthenticationPrincipal UserPrincipal principal,
+      @RequestParam(value = "bbox", required = false) String bbox,
+      @RequestParam(value = "status", required = false) String status,
+      WebRequest request) {
+    if (StringUtils.hasText(bbox)) {
+      return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT)
+          .body(placeService.listPlaceColumns(principal.getId(), bbox, status));
+    }
+    return cached(placeListCache.list(principal.getId(), status, true),
+        MediaType.parseMediaType(PlaceDtos.COLUMNAR_MEDIA_TYPE), request);
+  }
+
+  @GetMapping("/map")
+  public List<PlaceMarker> map(@AuthenticationPrincipal UserPrincipal principal,
       @RequestParam(value = "bbox", required = false) String bbox,
       @RequestParam(value = "status", required = false) String status) {
-    return placeService.listPlaces(principal.getId(), bbox, status);
+    return placeSnapshotService.markers(principal.getId(), bbox, status);
+  }
+
+  @GetMapping("/clusters")
+  public List<PlaceCluster> clusters(@AuthenticationPrincipal UserPrincipal principal,
+      @RequestParam(value = "bbox", required = false) String bbox,
+      @RequestParam(value = "zoom", required = false) Integer zoom,
+      @RequestParam(value = "status", required = false) String status) {
+    return placeSnapshotService.clusters(principal.getId(), bbox, zoom, status);
+  }
+
+  @GetMapping("/nearby")
+  public List<NearbyPlace> nearby(@AuthenticationPrincipal UserPrincipal principal,
+      @RequestParam(value = "lat", required = false) Double lat,
+      @RequestParam(value = "lng", required = false) Double lng,
+      @RequestParam(value = "radius", required = false) Double radius,
+      @RequestParam(value = "limit", required = false) Integer limit,
+      @RequestParam(value = "status", required = false) String status) {
+    return placeSnapshotService.nearby(principal.getId(), lat, lng, radius, limit, status);
+  }
+
+  @GetMapping("/search")
+  public List<PlaceResponse> search(@AuthenticationPrincipal UserPrincipal principal,
+      @RequestParam("q") String query,
+      @RequestParam(value = "bbox", required = false) String bbox,
+      @RequestParam(value = "limit", required = false) Integer limit) {
+    return placeService.searchPlaces(principal.getId(), query, bbox, limit);
+  }
+
+  @GetMapping("/autocomplete")
+  public List<PlaceSuggestion> autocomplete(@AuthenticationPrincipal UserPrincipal principal,
+      @RequestParam("q") String query,
+      @RequestParam(value = "limit", required = false) Integer limit) {
+    return placeAutocompleteService.suggest(principal.getId(), query, limit);
   }
 
   @GetMapping("/{id}")
@@ -46,6 +136,12 @@ public class PlaceController {
     return placeService.getPlace(principal.getId(), placeId);
   }
 
+  @GetMapping("/{id}/detail")
+  public PlaceDetailResponse detail(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable("id") Long placeId) {
+    return placeDetailService.detail(principal.getId(), placeId);
+  }
+
   @PatchMapping("/{id}")
   public PlaceResponse update(@AuthenticationPrincipal UserPrincipal principal,
       @PathVariable("id") Long placeId,
@@ -53,9 +149,38 @@ public class PlaceController {
     return placeService.updatePlace(principal.getId(), placeId, request);
   }
 
+  @PutMapping("/{id}/my-status")
+  public PlaceResponse updateMyStatus(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable("id") Long placeId,
+      @RequestBody UpdateMyPlaceStatusRequest request) {
+    return placeService.updateMyStatus(principal.getId(), placeId, request);
+  }
+
+  @DeleteMapping("/{id}/my-status")
+  public void clearMyStatus(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable("id") Long placeId) {
+    placeService.clearMyStatus(principal.getId(), placeId);
+  }
+
   @DeleteMapping("/{id}")
   public void delete(@AuthenticationPrincipal UserPrincipal principal,
       @PathVariable("id") Long placeId) {
     placeService.deletePlace(principal.getId(), placeId);
   }
+
+  private static ResponseEntity<?> cached(CachedPlaceList list, MediaType contentType, WebRequest request) {
+    if (request.checkNotModified(list.etag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(list.etag())
+          .cacheControl(CacheControl.noCache().cachePrivate())
+          .varyBy(HttpHeaders.ACCEPT)
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(list.etag())
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .varyBy(HttpHeaders.ACCEPT)
+        .contentType(contentType)
+        .body(list.body());
+  }
 }
@@ -0,0 +1,85 @@
+package com.granada.guide.controller;
+
+import com.granada.guide.dto.PhotoDtos.CreateUploadRequest;
+import com.granada.guide.dto.PhotoDtos.PhotoResponse;
+import com.granada.guide.dto.PhotoDtos.UploadResponse;
+import com.granada.guide.security.UserPrincipal;
+import com.granada.guide.service.ResumableUploadService;
+import jakarta.validation.Valid;
+import java.io.InputStream;
+import java.net.URI;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+public class UploadController {
+  private static final String OFFSET_CONTENT_TYPE = "application/offset+octet-stream";
+  private static final String UPLOAD_OFFSET = "Upload-Offset";
+  private static final String UPLOAD_LENGTH = "Upload-Length";
+
+  private final ResumableUploadService resumableUploadService;
+
+  public UploadController(ResumableUploadService resumableUploadService) {
+    this.resumableUploadService = resumableUploadService;
+  }
+
+  @PostMapping("/places/{placeId}/photos/uploads")
+  public ResponseEntity<UploadResponse> create(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable Long placeId,
+      @Valid @RequestBody CreateUploadRequest request) {
+    UploadResponse upload = resumableUploadService.create(principal.getId(), placeId, request);
+    return ResponseEntity.created(URI.create("/api/uploads/" + upload.id()))
+        .header(UPLOAD_OFFSET, Long.toString(upload.offset()))
+        .header(UPLOAD_LENGTH, Long.toString(upload.length()))
+        .body(upload);
+  }
+
+  @GetMapping("/uploads/{id}")
+  public ResponseEntity<UploadResponse> status(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable("id") String uploadId) {
+    UploadResponse upload = resumableUploadService.status(principal.getId(), uploadId);
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noStore())
+        .header(UPLOAD_OFFSET, Long.toString(upload.offset()))
+        .header(UPLOAD_LENGTH, Long.toString(upload.length()))
+        .body(upload);
+  }
+
+  @PatchMapping(value = "/uploads/{id}", consumes = OFFSET_CONTENT_TYPE)
+  public ResponseEntity<Void> append(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable("id") String uploadId,
+      @RequestHeader(UPLOAD_OFFSET) long offset,
+      InputStream body) {
+    UploadResponse upload = resumableUploadService.append(principal.getId(), uploadId, offset, body);
+    return ResponseEntity.noContent()
+        .header(UPLOAD_OFFSET, Long.toString(upload.offset()))
+        .header(UPLOAD_LENGTH, Long.toString(upload.length()))
+        .build();
+  }
+
+  @PostMapping("/uploads/{id}/complete")
+  public PhotoResponse complete(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable("id") String uploadId) {
+    return resumableUploadService.complete(principal.getId(), uploadId);
+  }
+
+  @DeleteMapping("/uploads/{id}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void abort(@AuthenticationPrincipal UserPrincipal principal,
+      @PathVariable("id") String uploadId) {
+    resumableUploadService.abort(principal.getId(), uploadId);
+  }
+}
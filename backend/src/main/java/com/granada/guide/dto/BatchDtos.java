@@ -0,0 +1,34 @@
+package com.granada.guide.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Map;
+
+public class BatchDtos {
+  public enum BatchOperationType {
+    CREATE_PLACE,
+    UPDATE_PLACE,
+    DELETE_PLACE,
+    UPDATE_MY_STATUS,
+    CLEAR_MY_STATUS,
+    CREATE_COMMENT,
+    DELETE_PHOTO
+  }
+
+  public record BatchRequest(@NotEmpty List<@Valid @NotNull BatchOperation> operations, boolean atomic) {}
+
+  public record BatchOperation(
+      @NotNull BatchOperationType type,
+      Long placeId,
+      Integer placeRef,
+      Long photoId,
+      JsonNode body
+  ) {}
+
+  public record BatchResult(int index, int status, Object body, String message, Map<String, String> errors) {}
+
+  public record BatchResponse(boolean atomic, boolean committed, List<BatchResult> results) {}
+}
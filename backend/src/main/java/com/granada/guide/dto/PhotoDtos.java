@@ -1,8 +1,17 @@
 package com.granada.guide.dto;
 
 import com.granada.guide.dto.CommonDtos.UserSummary;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.time.Instant;
 
 public class PhotoDtos {
-  public record PhotoResponse(Long id, UserSummary user, String url, String caption, Instant createdAt) {}
+  public record PhotoResponse(Long id, UserSummary user, String url, String thumbnailUrl, String caption,
+      Instant createdAt) {}
+
+  public record CreateUploadRequest(@NotNull @Positive Long length, @Size(max = 255) String filename,
+      @Size(max = 255) String caption) {}
+
+  public record UploadResponse(String id, long offset, long length, Instant expiresAt) {}
 }
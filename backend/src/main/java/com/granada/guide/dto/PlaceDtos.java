@@ -3,12 +3,17 @@ package com.granada.guide.dto;
 import com.granada.guide.entity.PlaceVisitStatus;
 import com.granada.guide.dto.CommonDtos.CategorySummary;
 import com.granada.guide.dto.CommonDtos.UserSummary;
+import com.granada.guide.dto.CommentDtos.CommentResponse;
+import com.granada.guide.dto.PhotoDtos.PhotoResponse;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.Instant;
+import java.util.List;
 
 public class PlaceDtos {
+  public static final String COLUMNAR_MEDIA_TYPE = "application/vnd.granada.places.columnar+json";
+
   public record CreatePlaceRequest(
       @NotBlank @Size(max = 200) String name,
       @NotNull Double lat,
@@ -28,6 +33,11 @@ public class PlaceDtos {
       Long categoryId
   ) {}
 
+  public record UpdateMyPlaceStatusRequest(
+      PlaceVisitStatus status,
+      Boolean favorite
+  ) {}
+
   public record PlaceResponse(
       Long id,
       Long groupId,
@@ -40,6 +50,68 @@ public class PlaceDtos {
       CategorySummary category,
       UserSummary createdBy,
       Instant createdAt,
-      Instant visitedAt
+      Instant visitedAt,
+      PlaceVisitStatus myStatus,
+      boolean favorite
+  ) {}
+
+  public record PlaceDetailResponse(
+      PlaceResponse place,
+      List<CommentResponse> comments,
+      List<PhotoResponse> photos,
+      int commentCount,
+      int photoCount
+  ) {}
+
+  public record PlaceSuggestion(
+      Long id,
+      Long groupId,
+      String name,
+      String address,
+      String category,
+      double score
+  ) {}
+
+  public record PlaceMarker(
+      long id,
+      long groupId,
+      String name,
+      double lat,
+      double lng,
+      PlaceVisitStatus status,
+      Long categoryId
+  ) {}
+
+  public record PlaceCluster(double lat, double lng, int count, Long placeId) {}
+
+  public record NearbyPlace(
+      long id,
+      long groupId,
+      String name,
+      double lat,
+      double lng,
+      PlaceVisitStatus status,
+      Long categoryId,
+      double distanceMeters
+  ) {}
+
+  public record PlaceColumns(
+      int count,
+      CategorySummary[] categories,
+      UserSummary[] users,
+      long[] id,
+      long[] groupId,
+      String[] name,
+      double[] lat,
+      double[] lng,
+      PlaceVisitStatus[] status,
+      String[] notes,
+      String[] address,
+      int[] category,
+      int[] createdBy,
+      Instant[] createdAt,
+      Instant[] visitedAt,
+      PlaceVisitStatus[] myStatus,
+      boolean[] favorite
   ) {}
 }
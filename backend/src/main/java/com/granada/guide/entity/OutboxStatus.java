@@ -0,0 +1,7 @@
+package com.granada.guide.entity;
+
+public enum OutboxStatus {
+  PENDING,
+  DONE,
+  DEAD
+}
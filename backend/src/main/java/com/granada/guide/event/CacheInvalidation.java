@@ -0,0 +1,3 @@
+package com.granada.guide.event;
+
+public record CacheInvalidation(CacheRegion region, Long key) {}
@@ -0,0 +1,8 @@
+package com.granada.guide.event;
+
+public enum CacheRegion {
+  GROUP_PLACES,
+  USER_PLACES,
+  CATEGORIES,
+  ALL
+}
@@ -0,0 +1,12 @@
+package com.granada.guide.event;
+
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+
+public record GroupChangeEvent(
+    GroupChangeType type,
+    Long groupId,
+    Long placeId,
+    Long entityId,
+    Long actorId,
+    PlaceResponse place
+) {}
@@ -0,0 +1,10 @@
+package com.granada.guide.event;
+
+public enum GroupChangeType {
+  PLACE_CREATED,
+  PLACE_UPDATED,
+  PLACE_DELETED,
+  COMMENT_CREATED,
+  PHOTO_UPLOADED,
+  PHOTO_DELETED
+}
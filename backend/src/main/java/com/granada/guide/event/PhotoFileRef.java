@@ -0,0 +1,3 @@
+package com.granada.guide.event;
+
+public record PhotoFileRef(Long photoId, String url) {}
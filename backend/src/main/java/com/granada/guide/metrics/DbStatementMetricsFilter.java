@@ -0,0 +1,108 @@
+package com.granada.guide.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.granada.guide.metrics.SqlStatementCounter.SqlRequestStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class DbStatementMetricsFilter extends OncePerRequestFilter {
+  public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+  private static final Logger log = LoggerFactory.getLogger(DbStatementMetricsFilter.class);
+
+  private final SqlStatementCounter counter;
+  private final SqlBudgetProperties budget;
+  private final MeterRegistry meterRegistry;
+  private final ObjectMapper objectMapper;
+
+  public DbStatementMetricsFilter(SqlStatementCounter counter,
+      SqlBudgetProperties budget,
+      MeterRegistry meterRegistry,
+      ObjectMapper objectMapper) {
+    this.counter = counter;
+    this.budget = budget;
+    this.meterRegistry = meterRegistry;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    ContentCachingResponseWrapper buffered = budget.failOnExceed() && isSafe(request) && !isEventStream(request)
+        ? new ContentCachingResponseWrapper(response)
+        : null;
+    counter.start();
+    SqlRequestStats stats;
+    try {
+      filterChain.doFilter(request, buffered != null ? buffered : response);
+    } finally {
+      stats = counter.stop();
+    }
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+    DistributionSummary.builder("http.server.requests.db.statements")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(stats.statements());
+    Timer.builder("http.server.requests.db.time")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(stats.nanos(), TimeUnit.NANOSECONDS);
+    String exceeded = checkBudget(request.getMethod() + " " + uri, stats);
+    if (buffered == null) {
+      return;
+    }
+    if (exceeded != null) {
+      buffered.resetBuffer();
+      buffered.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+      buffered.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      objectMapper.writeValue(buffered.getOutputStream(), Map.of("message", exceeded));
+    }
+    buffered.setHeader(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+    buffered.copyBodyToResponse();
+  }
+
+  private String checkBudget(String endpoint, SqlRequestStats stats) {
+    int max = budget.budgetFor(endpoint);
+    if (max <= 0 || stats.statements() <= max) {
+      return null;
+    }
+    meterRegistry.counter("http.server.requests.db.budget.exceeded", "endpoint", endpoint).increment();
+    String message = String.format("%s ejecuto %d sentencias SQL (%d ms), presupuesto %d",
+        endpoint, stats.statements(), TimeUnit.NANOSECONDS.toMillis(stats.nanos()), max);
+    log.warn(message);
+    return budget.failOnExceed() ? message : null;
+  }
+
+  private static boolean isSafe(HttpServletRequest request) {
+    return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+  }
+
+  private static boolean isEventStream(HttpServletRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+  }
+}
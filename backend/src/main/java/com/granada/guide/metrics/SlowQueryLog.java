@@ -0,0 +1,70 @@
+package com.granada.guide.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryLog {
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final int maxShapes;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  public SlowQueryLog(@Value("${app.sql-budget.max-slow-query-shapes:200}") int maxShapes) {
+    this.maxShapes = maxShapes;
+  }
+
+  public String record(String sql, long nanos) {
+    String shape = shape(sql);
+    Entry entry = entries.get(shape);
+    if (entry == null) {
+      if (entries.size() >= maxShapes) {
+        return shape;
+      }
+      entry = entries.computeIfAbsent(shape, key -> new Entry());
+    }
+    entry.count.increment();
+    entry.totalNanos.add(nanos);
+    entry.maxNanos.accumulateAndGet(nanos, Math::max);
+    return shape;
+  }
+
+  @ReadOperation
+  public List<SlowQuery> slowQueries() {
+    return entries.entrySet().stream()
+        .map(e -> new SlowQuery(e.getKey(), e.getValue().count.sum(),
+            TimeUnit.NANOSECONDS.toMillis(e.getValue().totalNanos.sum()),
+            TimeUnit.NANOSECONDS.toMillis(e.getValue().maxNanos.get())))
+        .sorted(Comparator.comparingLong(SlowQuery::totalMs).reversed())
+        .toList();
+  }
+
+  static String shape(String sql) {
+    String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+    return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+  }
+
+  public record SlowQuery(String sql, long count, long totalMs, long maxMs) {}
+
+  private static final class Entry {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+  }
+}
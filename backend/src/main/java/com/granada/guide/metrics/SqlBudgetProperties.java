@@ -0,0 +1,19 @@
+package com.granada.guide.metrics;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.sql-budget")
+public record SqlBudgetProperties(
+    boolean failOnExceed,
+    int defaultMaxStatements,
+    Map<String, Integer> endpoints
+) {
+  public SqlBudgetProperties {
+    endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+  }
+
+  public int budgetFor(String endpoint) {
+    return endpoints.getOrDefault(endpoint, defaultMaxStatements);
+  }
+}
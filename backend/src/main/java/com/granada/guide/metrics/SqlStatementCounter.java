@@ -0,0 +1,67 @@
+package com.granada.guide.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlStatementCounter {
+  private static final Logger log = LoggerFactory.getLogger(SqlStatementCounter.class);
+  private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+  private final SlowQueryLog slowQueryLog;
+  private final long slowQueryNanos;
+
+  public SqlStatementCounter(SlowQueryLog slowQueryLog,
+      @Value("${app.sql-budget.slow-query-ms:250}") long slowQueryMs) {
+    this.slowQueryLog = slowQueryLog;
+    this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMs);
+  }
+
+  public void record(String sql, long nanos) {
+    long[] current = CURRENT.get();
+    if (current != null) {
+      current[0]++;
+      current[1] += nanos;
+    }
+    if (nanos >= slowQueryNanos) {
+      String shape = slowQueryLog.record(sql, nanos);
+      log.warn("Consulta lenta ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), shape);
+    }
+  }
+
+  public void start() {
+    CURRENT.set(new long[2]);
+  }
+
+  public SqlRequestStats stop() {
+    long[] current = CURRENT.get();
+    CURRENT.remove();
+    return current == null ? new SqlRequestStats(0, 0) : new SqlRequestStats((int) current[0], current[1]);
+  }
+
+  public <T> Supplier<T> propagate(Supplier<T> task) {
+    long[] parent = CURRENT.get();
+    if (parent == null) {
+      return task;
+    }
+    return () -> {
+      CURRENT.set(new long[2]);
+      try {
+        return task.get();
+      } finally {
+        long[] child = CURRENT.get();
+        CURRENT.remove();
+        synchronized (parent) {
+          parent[0] += child[0];
+          parent[1] += child[1];
+        }
+      }
+    };
+  }
+
+  public record SqlRequestStats(int statements, long nanos) {}
+}
@@ -0,0 +1,88 @@
+package com.granada.guide.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class SqlTimingDataSource extends DelegatingDataSource {
+  private final Supplier<SqlStatementCounter> counter;
+
+  public SqlTimingDataSource(DataSource target, Supplier<SqlStatementCounter> counter) {
+    super(target);
+    this.counter = counter;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrapConnection(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrapConnection(super.getConnection(username, password));
+  }
+
+  private Connection wrapConnection(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getTargetException();
+    }
+  }
+
+  private final class ConnectionHandler implements InvocationHandler {
+    private final Connection target;
+
+    private ConnectionHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result = SqlTimingDataSource.invoke(target, method, args);
+      if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+        String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+            new Class<?>[] {method.getReturnType()}, new StatementHandler(statement, sql));
+      }
+      return result;
+    }
+  }
+
+  private final class StatementHandler implements InvocationHandler {
+    private final Statement target;
+    private final String preparedSql;
+
+    private StatementHandler(Statement target, String preparedSql) {
+      this.target = target;
+      this.preparedSql = preparedSql;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (!method.getName().startsWith("execute")) {
+        return SqlTimingDataSource.invoke(target, method, args);
+      }
+      long start = System.nanoTime();
+      try {
+        return SqlTimingDataSource.invoke(target, method, args);
+      } finally {
+        String sql = preparedSql != null ? preparedSql
+            : args != null && args.length > 0 && args[0] instanceof String value ? value : "batch";
+        counter.get().record(sql, System.nanoTime() - start);
+      }
+    }
+  }
+}
@@ -1,7 +1,13 @@
 package com.granada.guide.repository;
 
 import com.granada.guide.entity.Category;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+  @Override
+  @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+  List<Category> findAll();
 }
@@ -2,8 +2,10 @@ package com.granada.guide.repository;
 
 import com.granada.guide.entity.Comment;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+  @EntityGraph(attributePaths = "user")
   List<Comment> findByPlace_IdAndHiddenFalseOrderByCreatedAtAsc(Long placeId);
 }
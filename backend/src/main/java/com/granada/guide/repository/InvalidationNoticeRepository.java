@@ -0,0 +1,23 @@
+package com.granada.guide.repository;
+
+import com.granada.guide.entity.InvalidationNotice;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface InvalidationNoticeRepository extends JpaRepository<InvalidationNotice, Long> {
+  @Query("select coalesce(max(n.id), 0) from InvalidationNotice n")
+  long findMaxId();
+
+  List<InvalidationNotice> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+  @Transactional
+  @Modifying
+  @Query("delete from InvalidationNotice n where n.createdAt < :cutoff")
+  int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
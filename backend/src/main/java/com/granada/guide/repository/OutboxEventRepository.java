@@ -0,0 +1,40 @@
+package com.granada.guide.repository;
+
+import com.granada.guide.entity.OutboxEvent;
+import com.granada.guide.entity.OutboxStatus;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+  @Query(value = "select * from outbox_events"
+      + " where status = 'PENDING' and available_at <= :now"
+      + " order by id"
+      + " limit :limit"
+      + " for update skip locked",
+      nativeQuery = true)
+  List<OutboxEvent> lockDue(@Param("now") Instant now, @Param("limit") int limit);
+
+  @Transactional
+  @Modifying
+  @Query("update OutboxEvent e set e.status = :status, e.processedAt = :now, e.lastError = :error"
+      + " where e.id = :id")
+  int finish(@Param("id") Long id,
+      @Param("status") OutboxStatus status,
+      @Param("now") Instant now,
+      @Param("error") String error);
+
+  @Transactional
+  @Modifying
+  @Query("update OutboxEvent e set e.availableAt = :retryAt, e.lastError = :error where e.id = :id")
+  int retryLater(@Param("id") Long id, @Param("retryAt") Instant retryAt, @Param("error") String error);
+
+  @Transactional
+  @Modifying
+  @Query("delete from OutboxEvent e where e.status = :status and e.processedAt < :before")
+  int purge(@Param("status") OutboxStatus status, @Param("before") Instant before);
+}
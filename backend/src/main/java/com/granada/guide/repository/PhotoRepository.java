@@ -2,8 +2,15 @@ package com.granada.guide.repository;
 
 import com.granada.guide.entity.Photo;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
+  @EntityGraph(attributePaths = "user")
   List<Photo> findByPlace_IdAndHiddenFalseOrderByCreatedAtAsc(Long placeId);
+
+  @Query("select p.url from Photo p where p.place.id = :placeId")
+  List<String> findUrlsByPlaceId(@Param("placeId") Long placeId);
 }
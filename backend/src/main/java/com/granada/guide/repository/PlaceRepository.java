@@ -2,13 +2,71 @@ package com.granada.guide.repository;
 
 import com.granada.guide.entity.Place;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
-  List<Place> findByGroup_IdIn(List<Long> groupIds);
+  @EntityGraph(attributePaths = {"createdBy", "category"})
+  List<Place> findByGroup_Id(Long groupId);
 
-  List<Place> findByGroup_IdInAndLatBetweenAndLngBetween(
-      List<Long> groupIds, Double minLat, Double maxLat, Double minLng, Double maxLng);
+  @EntityGraph(attributePaths = {"createdBy", "category"})
+  List<Place> findByIdIn(List<Long> ids);
 
-  List<Place> findByGroup_Id(Long groupId);
+  @Query("select p.group.id from Place p where p.id = :id")
+  Optional<Long> findGroupIdById(@Param("id") Long id);
+
+  @Query("select p.id as id, p.group.id as groupId, p.name as name, p.address as address,"
+      + " c.name as categoryName from Place p left join p.category c")
+  List<PlaceLabelView> findAllLabels();
+
+  @Query("select p.id as id, p.group.id as groupId, p.name as name, p.address as address,"
+      + " c.name as categoryName from Place p left join p.category c where p.group.id = :groupId")
+  List<PlaceLabelView> findLabelsByGroupId(@Param("groupId") Long groupId);
+
+  @Query(value = "select p.id from places p"
+      + " where p.group_id in (:groupIds)"
+      + " and match(p.name, p.description, p.address) against (:query in boolean mode)"
+      + " and (:bbox = false or (p.lat between :minLat and :maxLat and p.lng between :minLng and :maxLng))"
+      + " order by match(p.name, p.description, p.address) against (:query in boolean mode) desc, p.id"
+      + " limit :limit",
+      nativeQuery = true)
+  List<Long> searchIdsMariaDb(@Param("groupIds") List<Long> groupIds,
+      @Param("query") String query,
+      @Param("bbox") boolean bbox,
+      @Param("minLat") double minLat,
+      @Param("maxLat") double maxLat,
+      @Param("minLng") double minLng,
+      @Param("maxLng") double maxLng,
+      @Param("limit") int limit);
+
+  @Query(value = "select p.id from places p"
+      + " where p.group_id in (:groupIds)"
+      + " and p.search_vector @@ to_tsquery('simple', :query)"
+      + " and (:bbox = false or (p.lat between :minLat and :maxLat and p.lng between :minLng and :maxLng))"
+      + " order by ts_rank(p.search_vector, to_tsquery('simple', :query)) desc, p.id"
+      + " limit :limit",
+      nativeQuery = true)
+  List<Long> searchIdsPostgres(@Param("groupIds") List<Long> groupIds,
+      @Param("query") String query,
+      @Param("bbox") boolean bbox,
+      @Param("minLat") double minLat,
+      @Param("maxLat") double maxLat,
+      @Param("minLng") double minLng,
+      @Param("maxLng") double maxLng,
+      @Param("limit") int limit);
+
+  interface PlaceLabelView {
+    Long getId();
+
+    Long getGroupId();
+
+    String getName();
+
+    String getAddress();
+
+    String getCategoryName();
+  }
 }
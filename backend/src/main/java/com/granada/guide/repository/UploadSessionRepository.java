@@ -0,0 +1,29 @@
+package com.granada.guide.repository;
+
+import com.granada.guide.entity.UploadSession;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+  @Query("select s.id from UploadSession s where s.expiresAt < :now")
+  List<String> findExpiredIds(@Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query("update UploadSession s set s.offset = :offset, s.expiresAt = :expiresAt"
+      + " where s.id = :id and s.offset = :expected")
+  int advance(@Param("id") String id,
+      @Param("expected") long expected,
+      @Param("offset") long offset,
+      @Param("expiresAt") Instant expiresAt);
+
+  @Transactional
+  @Modifying
+  @Query("delete from UploadSession s where s.id = :id and s.expiresAt < :now")
+  int deleteExpired(@Param("id") String id, @Param("now") Instant now);
+}
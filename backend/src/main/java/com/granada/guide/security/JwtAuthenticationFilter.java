@@ -1,6 +1,9 @@
 package com.granada.guide.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,11 +20,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider tokenProvider;
   private final CustomUserDetailsService userDetailsService;
+  private final Timer validTokenTimer;
+  private final Timer invalidTokenTimer;
 
   public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
-      CustomUserDetailsService userDetailsService) {
+      CustomUserDetailsService userDetailsService,
+      MeterRegistry meterRegistry) {
     this.tokenProvider = tokenProvider;
     this.userDetailsService = userDetailsService;
+    this.validTokenTimer = Timer.builder("auth.jwt.validation").tag("result", "valid").register(meterRegistry);
+    this.invalidTokenTimer = Timer.builder("auth.jwt.validation").tag("result", "invalid").register(meterRegistry);
   }
 
   @Override
@@ -34,7 +42,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = paramToken;
       }
     }
-    if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
+    if (StringUtils.hasText(jwt) && validate(jwt)) {
       Long userId = tokenProvider.getUserIdFromToken(jwt);
       UserPrincipal userDetails = (UserPrincipal) userDetailsService.loadUserById(userId);
       UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -45,6 +53,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
+  private boolean validate(String jwt) {
+    long start = System.nanoTime();
+    boolean valid = tokenProvider.validateToken(jwt);
+    (valid ? validTokenTimer : invalidTokenTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return valid;
+  }
+
   private String getJwtFromRequest(HttpServletRequest request) {
     String bearerToken = request.getHeader("Authorization");
     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,218 @@
+package com.granada.guide.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.granada.guide.dto.BatchDtos.BatchOperation;
+import com.granada.guide.dto.BatchDtos.BatchOperationType;
+import com.granada.guide.dto.BatchDtos.BatchRequest;
+import com.granada.guide.dto.BatchDtos.BatchResponse;
+import com.granada.guide.dto.BatchDtos.BatchResult;
+import com.granada.guide.dto.CommentDtos.CreateCommentRequest;
+import com.granada.guide.dto.PlaceDtos.CreatePlaceRequest;
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.dto.PlaceDtos.UpdateMyPlaceStatusRequest;
+import com.granada.guide.dto.PlaceDtos.UpdatePlaceRequest;
+import com.granada.guide.exception.ApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class BatchService {
+  private static final Logger log = LoggerFactory.getLogger(BatchService.class);
+
+  private final PlaceService placeService;
+  private final CommentService commentService;
+  private final PhotoService photoService;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxOperations;
+  private final Timer atomicTimer;
+  private final Timer independentTimer;
+
+  public BatchService(PlaceService placeService,
+      CommentService commentService,
+      PhotoService photoService,
+      ObjectMapper objectMapper,
+      Validator validator,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.batch.max-operations:100}") int maxOperations) {
+    this.placeService = placeService;
+    this.commentService = commentService;
+    this.photoService = photoService;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxOperations = maxOperations;
+    this.atomicTimer = Timer.builder("batch.requests").tag("mode", "atomic").register(meterRegistry);
+    this.independentTimer = Timer.builder("batch.requests").tag("mode", "independent").register(meterRegistry);
+  }
+
+  public BatchResponse execute(Long userId, BatchRequest request) {
+    List<BatchOperation> operations = request.operations();
+    if (operations.size() > maxOperations) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, "Maximo " + maxOperations + " operaciones por lote");
+    }
+    long start = System.nanoTime();
+    BatchResponse response = request.atomic() ? atomic(userId, operations) : independent(userId, operations);
+    (request.atomic() ? atomicTimer : independentTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return response;
+  }
+
+  private BatchResponse independent(Long userId, List<BatchOperation> operations) {
+    Long[] createdPlaces = new Long[operations.size()];
+    List<BatchResult> results = new ArrayList<>(operations.size());
+    for (int i = 0; i < operations.size(); i++) {
+      results.add(run(userId, i, operations.get(i), createdPlaces));
+    }
+    return new BatchResponse(false, true, results);
+  }
+
+  private BatchResponse atomic(Long userId, List<BatchOperation> operations) {
+    Long[] createdPlaces = new Long[operations.size()];
+    List<BatchResult> results = new ArrayList<>(operations.size());
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        for (int i = 0; i < operations.size(); i++) {
+          BatchResult result = run(userId, i, operations.get(i), createdPlaces);
+          results.add(result);
+          if (result.status() >= 400) {
+            status.setRollbackOnly();
+            return;
+          }
+        }
+      });
+    } catch (DataAccessException ex) {
+      HttpStatus status = ex instanceof DataIntegrityViolationException ? HttpStatus.CONFLICT
+          : HttpStatus.INTERNAL_SERVER_ERROR;
+      log.warn("Lote atomico revertido al confirmar: {}", ex.getMessage());
+      List<BatchResult> failed = new ArrayList<>(operations.size());
+      for (int i = 0; i < operations.size(); i++) {
+        failed.add(failure(i, status, "Lote revertido al confirmar la transaccion", null));
+      }
+      return new BatchResponse(true, false, failed);
+    }
+    if (results.size() == operations.size() && results.get(results.size() - 1).status() < 400) {
+      return new BatchResponse(true, true, results);
+    }
+    int failedIndex = results.size() - 1;
+    List<BatchResult> rolledBack = new ArrayList<>(operations.size());
+    for (int i = 0; i < operations.size(); i++) {
+      if (i == failedIndex) {
+        rolledBack.add(results.get(i));
+      } else {
+        rolledBack.add(failure(i, HttpStatus.FAILED_DEPENDENCY,
+            (i < failedIndex ? "Revertida" : "No ejecutada") + ": fallo la operacion " + failedIndex, null));
+      }
+    }
+    return new BatchResponse(true, false, rolledBack);
+  }
+
+  private BatchResult run(Long userId, int index, BatchOperation operation, Long[] createdPlaces) {
+    try {
+      Object body = switch (operation.type()) {
+        case CREATE_PLACE -> placeService.createPlace(userId, body(operation, CreatePlaceRequest.class));
+        case UPDATE_PLACE -> placeService.updatePlace(userId, placeId(index, operation, createdPlaces),
+            body(operation, UpdatePlaceRequest.class));
+        case DELETE_PLACE -> {
+          placeService.deletePlace(userId, placeId(index, operation, createdPlaces));
+          yield null;
+        }
+        case UPDATE_MY_STATUS -> placeService.updateMyStatus(userId, placeId(index, operation, createdPlaces),
+            body(operation, UpdateMyPlaceStatusRequest.class));
+        case CLEAR_MY_STATUS -> {
+          placeService.clearMyStatus(userId, placeId(index, operation, createdPlaces));
+          yield null;
+        }
+        case CREATE_COMMENT -> commentService.create(userId, placeId(index, operation, createdPlaces),
+            body(operation, CreateCommentRequest.class));
+        case DELETE_PHOTO -> {
+          if (operation.photoId() == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Falta photoId");
+          }
+          photoService.delete(userId, operation.photoId());
+          yield null;
+        }
+      };
+      if (operation.type() == BatchOperationType.CREATE_PLACE && body instanceof PlaceResponse place) {
+        createdPlaces[index] = place.id();
+      }
+      HttpStatus status = body == null ? HttpStatus.NO_CONTENT : HttpStatus.OK;
+      return new BatchResult(index, status.value(), body, null, null);
+    } catch (InvalidBodyException ex) {
+      return failure(index, ex.getStatus(), ex.getMessage(), ex.errors);
+    } catch (ApiException ex) {
+      return failure(index, ex.getStatus(), ex.getMessage(), null);
+    } catch (DataIntegrityViolationException ex) {
+      return failure(index, HttpStatus.CONFLICT, "Conflicto de datos", null);
+    } catch (RuntimeException ex) {
+      log.warn("Operacion {} del lote fallida ({}): {}", index, operation.type(), ex.getMessage());
+      return failure(index, HttpStatus.INTERNAL_SERVER_ERROR, "Error interno", null);
+    }
+  }
+
+  private Long placeId(int index, BatchOperation operation, Long[] createdPlaces) {
+    if (operation.placeId() != null) {
+      return operation.placeId();
+    }
+    Integer ref = operation.placeRef();
+    if (ref == null) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, "Falta placeId o placeRef");
+    }
+    if (ref < 0 || ref >= index || createdPlaces[ref] == null) {
+      throw new ApiException(HttpStatus.BAD_REQUEST,
+          "placeRef debe apuntar a un CREATE_PLACE anterior y correcto del mismo lote");
+    }
+    return createdPlaces[ref];
+  }
+
+  private <T> T body(BatchOperation operation, Class<T> type) {
+    JsonNode node = operation.body() == null ? objectMapper.createObjectNode() : operation.body();
+    T value;
+    try {
+      value = objectMapper.treeToValue(node, type);
+    } catch (Exception ex) {
+      throw new InvalidBodyException("Cuerpo no valido para " + operation.type(), null);
+    }
+    Set<ConstraintViolation<T>> violations = validator.validate(value);
+    if (!violations.isEmpty()) {
+      Map<String, String> errors = new TreeMap<>();
+      for (ConstraintViolation<T> violation : violations) {
+        errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+      }
+      throw new InvalidBodyException("Validacion fallida", errors);
+    }
+    return value;
+  }
+
+  private static BatchResult failure(int index, HttpStatus status, String message, Map<String, String> errors) {
+    return new BatchResult(index, status.value(), null, message, errors);
+  }
+
+  private static final class InvalidBodyException extends ApiException {
+    private final Map<String, String> errors;
+
+    private InvalidBodyException(String message, Map<String, String> errors) {
+      super(HttpStatus.BAD_REQUEST, message);
+      this.errors = errors;
+    }
+  }
+}
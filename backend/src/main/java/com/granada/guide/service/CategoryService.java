@@ -3,10 +3,13 @@ package com.granada.guide.service;
 import com.granada.guide.dto.CategoryDtos.CategoryResponse;
 import com.granada.guide.dto.CategoryDtos.CreateCategoryRequest;
 import com.granada.guide.entity.Category;
+import com.granada.guide.event.CacheInvalidation;
+import com.granada.guide.event.CacheRegion;
 import com.granada.guide.exception.ApiException;
 import com.granada.guide.repository.CategoryRepository;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -14,10 +17,14 @@ import org.springframework.stereotype.Service;
 public class CategoryService {
   private final CategoryRepository categoryRepository;
   private final GroupService groupService;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public CategoryService(CategoryRepository categoryRepository, GroupService groupService) {
+  public CategoryService(CategoryRepository categoryRepository,
+      GroupService groupService,
+      ApplicationEventPublisher eventPublisher) {
     this.categoryRepository = categoryRepository;
     this.groupService = groupService;
+    this.eventPublisher = eventPublisher;
   }
 
   public List<CategoryResponse> list() {
@@ -35,6 +42,7 @@ public class CategoryService {
     category.setName(request.name());
     category.setIcon(request.icon());
     Category saved = categoryRepository.save(category);
+    eventPublisher.publishEvent(new CacheInvalidation(CacheRegion.CATEGORIES, saved.getId()));
     return new CategoryResponse(saved.getId(), saved.getName(), saved.getIcon());
   }
 }
@@ -6,11 +6,13 @@ import com.granada.guide.dto.CommonDtos.UserSummary;
 import com.granada.guide.entity.Comment;
 import com.granada.guide.entity.Place;
 import com.granada.guide.entity.User;
+import com.granada.guide.event.GroupChangeEvent;
+import com.granada.guide.event.GroupChangeType;
 import com.granada.guide.exception.ApiException;
 import com.granada.guide.repository.CommentRepository;
 import com.granada.guide.repository.PlaceRepository;
 import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,24 +23,34 @@ public class CommentService {
   private final PlaceRepository placeRepository;
   private final GroupService groupService;
   private final AuthService authService;
+  private final RequestCoalescer requestCoalescer;
+  private final ApplicationEventPublisher eventPublisher;
 
   public CommentService(CommentRepository commentRepository,
       PlaceRepository placeRepository,
       GroupService groupService,
-      AuthService authService) {
+      AuthService authService,
+      RequestCoalescer requestCoalescer,
+      ApplicationEventPublisher eventPublisher) {
     this.commentRepository = commentRepository;
     this.placeRepository = placeRepository;
     this.groupService = groupService;
     this.authService = authService;
+    this.requestCoalescer = requestCoalescer;
+    this.eventPublisher = eventPublisher;
   }
 
-  @Transactional(readOnly = true)
   public List<CommentResponse> list(Long userId, Long placeId) {
-    Place place = getPlaceForMember(placeId, userId);
-    return commentRepository.findByPlace_IdAndHiddenFalseOrderByCreatedAtAsc(place.getId())
-        .stream()
-        .map(this::toResponse)
-        .collect(Collectors.toList());
+    return listVisible(getPlaceForMember(placeId, userId).getId());
+  }
+
+  List<CommentResponse> listVisible(Long placeId) {
+    return requestCoalescer.executeReadOnly(RequestCoalescer.Key.of("comments", placeId,
+        requestCoalescer.writeSequence("comments", placeId)),
+        () -> commentRepository.findByPlace_IdAndHiddenFalseOrderByCreatedAtAsc(placeId)
+            .stream()
+            .map(this::toResponse)
+            .toList());
   }
 
   @Transactional
@@ -50,6 +62,8 @@ public class CommentService {
     comment.setUser(user);
     comment.setText(request.text());
     Comment saved = commentRepository.save(comment);
+    eventPublisher.publishEvent(new GroupChangeEvent(GroupChangeType.COMMENT_CREATED,
+        place.getGroup().getId(), place.getId(), saved.getId(), userId, null));
     return toResponse(saved);
   }
 
@@ -1,12 +1,26 @@
 package com.granada.guide.service;
 
 import com.granada.guide.exception.ApiException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -16,33 +30,137 @@ import org.springframework.web.multipart.MultipartFile;
 
 @Service
 public class FileStorageService {
+  public static final String THUMBNAIL_DIR = "thumbs";
+  public static final String PARTIAL_DIR = ".partial";
+  private static final Pattern EXTENSION = Pattern.compile("\\.[A-Za-z0-9]{1,15}");
+  private static final int CHUNK_BUFFER_BYTES = 64 * 1024;
+
   private final Path uploadRoot;
+  private final Timer storeTimer;
+  private final DistributionSummary bytesWritten;
+  private final DistributionSummary bytesRead;
 
-  public FileStorageService(@Value("${app.upload.dir}") String uploadDir) {
+  public FileStorageService(@Value("${app.upload.dir}") String uploadDir, MeterRegistry meterRegistry) {
     this.uploadRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+    this.storeTimer = Timer.builder("storage.store").register(meterRegistry);
+    this.bytesWritten = DistributionSummary.builder("storage.bytes")
+        .baseUnit("bytes").tag("direction", "write").register(meterRegistry);
+    this.bytesRead = DistributionSummary.builder("storage.bytes")
+        .baseUnit("bytes").tag("direction", "read").register(meterRegistry);
+  }
+
+  public Path uploadRoot() {
+    return uploadRoot;
   }
 
   public String storePlacePhoto(Long placeId, MultipartFile file) {
     if (file == null || file.isEmpty()) {
       throw new ApiException(HttpStatus.BAD_REQUEST, "El archivo es obligatorio");
     }
-    String original = file.getOriginalFilename();
-    String ext = "";
-    if (original != null && original.contains(".")) {
-      ext = original.substring(original.lastIndexOf('.'));
+    String filename = UUID.randomUUID().toString().replace("-", "") + extensionOf(file.getOriginalFilename());
+    Path placeDir = uploadRoot.resolve("place-" + placeId);
+    long start = System.nanoTime();
+    try {
+      Files.createDirectories(placeDir);
+      Path target = placeDir.resolve(filename);
+      long written = Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
+      bytesWritten.record(written);
+      return "/uploads/" + "place-" + placeId + "/" + filename;
+    } catch (IOException ex) {
+      throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "No se pudo guardar el archivo");
+    } finally {
+      storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     }
-    String filename = UUID.randomUUID().toString().replace("-", "") + ext;
+  }
+
+  public String extensionOf(String originalFilename) {
+    if (originalFilename == null || !originalFilename.contains(".")) {
+      return "";
+    }
+    String ext = originalFilename.substring(originalFilename.lastIndexOf('.'));
+    return EXTENSION.matcher(ext).matches() ? ext.toLowerCase(Locale.ROOT) : "";
+  }
+
+  public Path partialPath(String uploadId) {
+    return uploadRoot.resolve(PARTIAL_DIR).resolve(uploadId + ".part");
+  }
+
+  public void allocatePartial(String uploadId, long length) {
+    Path partial = partialPath(uploadId);
+    try {
+      Files.createDirectories(partial.getParent());
+      try (RandomAccessFile file = new RandomAccessFile(partial.toFile(), "rw")) {
+        file.setLength(length);
+      }
+    } catch (IOException ex) {
+      throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "No se pudo preparar la subida");
+    }
+  }
+
+  public long writePartial(String uploadId, long offset, long limit, InputStream in) {
+    long start = System.nanoTime();
+    long written = 0;
+    byte[] bytes = new byte[CHUNK_BUFFER_BYTES];
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    try (FileChannel channel = FileChannel.open(partialPath(uploadId), StandardOpenOption.WRITE)) {
+      while (true) {
+        int read;
+        try {
+          read = in.read(bytes, 0, (int) Math.min(bytes.length, limit - written + 1));
+        } catch (IOException ex) {
+          break;
+        }
+        if (read < 0) {
+          break;
+        }
+        if (written + read > limit) {
+          throw new ApiException(HttpStatus.PAYLOAD_TOO_LARGE, "El fragmento supera el tamano declarado");
+        }
+        buffer.clear().limit(read);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer, offset + written + buffer.position());
+        }
+        written += read;
+      }
+      channel.force(false);
+      bytesWritten.record(written);
+      return written;
+    } catch (NoSuchFileException ex) {
+      throw new ApiException(HttpStatus.NOT_FOUND, "Subida no encontrada");
+    } catch (IOException ex) {
+      throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "No se pudo guardar el fragmento");
+    } finally {
+      storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  public String promotePartial(String uploadId, Long placeId, String extension) {
+    String filename = UUID.randomUUID().toString().replace("-", "") + (extension == null ? "" : extension);
     Path placeDir = uploadRoot.resolve("place-" + placeId);
     try {
       Files.createDirectories(placeDir);
       Path target = placeDir.resolve(filename);
-      Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
+      try {
+        Files.move(partialPath(uploadId), target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException ex) {
+        Files.move(partialPath(uploadId), target, StandardCopyOption.REPLACE_EXISTING);
+      }
       return "/uploads/" + "place-" + placeId + "/" + filename;
+    } catch (NoSuchFileException ex) {
+      throw new ApiException(HttpStatus.NOT_FOUND, "Subida no encontrada");
     } catch (IOException ex) {
       throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "No se pudo guardar el archivo");
     }
   }
 
+  public void deletePartial(String uploadId) {
+    try {
+      Files.deleteIfExists(partialPath(uploadId));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
   public Path resolvePath(String url) {
     if (url == null || !url.startsWith("/uploads/")) {
       throw new ApiException(HttpStatus.NOT_FOUND, "Archivo no encontrado");
@@ -58,12 +176,37 @@ public class FileStorageService {
     return resolved;
   }
 
+  public Path thumbnailPath(Path original) {
+    String name = original.getFileName().toString();
+    int dot = name.lastIndexOf('.');
+    String base = dot > 0 ? name.substring(0, dot) : name;
+    return original.resolveSibling(THUMBNAIL_DIR).resolve(base + ".jpg");
+  }
+
+  public boolean deleteStored(String url) {
+    if (url == null || !url.startsWith("/uploads/")) {
+      return false;
+    }
+    Path resolved = uploadRoot.resolve(url.substring("/uploads/".length())).normalize();
+    if (!resolved.startsWith(uploadRoot)) {
+      return false;
+    }
+    try {
+      boolean deleted = Files.deleteIfExists(resolved);
+      Files.deleteIfExists(thumbnailPath(resolved));
+      return deleted;
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
   public Resource loadAsResource(Path path) {
     try {
       Resource resource = new UrlResource(path.toUri());
       if (!resource.exists()) {
         throw new ApiException(HttpStatus.NOT_FOUND, "Archivo no encontrado");
       }
+      bytesRead.record(resource.contentLength());
       return resource;
     } catch (IOException ex) {
       throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "No se pudo cargar el archivo");
@@ -0,0 +1,204 @@
+package com.granada.guide.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.granada.guide.event.GroupChangeEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+public class GroupEventService {
+  private static final Logger log = LoggerFactory.getLogger(GroupEventService.class);
+
+  private final GroupService groupService;
+  private final ObjectMapper objectMapper;
+  private final int bufferSize;
+  private final long timeoutMillis;
+  private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final ExecutorService sender;
+  private final ScheduledExecutorService heartbeat;
+
+  public GroupEventService(GroupService groupService,
+      ObjectMapper objectMapper,
+      @Value("${app.events.buffer-size:64}") int bufferSize,
+      @Value("${app.events.heartbeat-seconds:20}") long heartbeatSeconds,
+      @Value("${app.events.timeout-minutes:30}") long timeoutMinutes,
+      @Value("${app.events.sender-threads:4}") int senderThreads,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this.groupService = groupService;
+    this.objectMapper = objectMapper;
+    this.bufferSize = bufferSize;
+    this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+    this.sender = virtualThreads
+        ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("group-events-", 0).factory())
+        : Executors.newFixedThreadPool(senderThreads, namedThreads("group-events-"));
+    this.heartbeat = Executors.newSingleThreadScheduledExecutor(namedThreads("group-events-heartbeat-"));
+    this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats,
+        heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+  }
+
+  public SseEmitter subscribe(Long userId, Long groupId) {
+    groupService.getGroupForMember(groupId, userId);
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(groupId, emitter, bufferSize);
+    subscribers.computeIfAbsent(groupId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    emitter.onCompletion(() -> remove(subscriber));
+    emitter.onTimeout(() -> remove(subscriber));
+    emitter.onError(ex -> remove(subscriber));
+    enqueue(subscriber, OutboundEvent.READY);
+    return emitter;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onGroupChange(GroupChangeEvent event) {
+    Set<Subscriber> targets = subscribers.get(event.groupId());
+    if (targets == null || targets.isEmpty()) {
+      return;
+    }
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException ex) {
+      log.warn("No se pudo serializar el evento {}", event.type(), ex);
+      return;
+    }
+    OutboundEvent outbound = new OutboundEvent(
+        Long.toString(sequence.incrementAndGet()), event.type().name(), json);
+    for (Subscriber subscriber : targets) {
+      enqueue(subscriber, outbound);
+    }
+  }
+
+  public int getSubscriberCount() {
+    return subscribers.values().stream().mapToInt(Set::size).sum();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeat.shutdownNow();
+    sender.shutdownNow();
+    subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    subscribers.clear();
+  }
+
+  private void sendHeartbeats() {
+    for (Set<Subscriber> set : subscribers.values()) {
+      for (Subscriber subscriber : set) {
+        enqueue(subscriber, OutboundEvent.HEARTBEAT);
+      }
+    }
+  }
+
+  private void enqueue(Subscriber subscriber, OutboundEvent event) {
+    if (subscriber.closed.get()) {
+      return;
+    }
+    if (!subscriber.queue.offer(event)) {
+      log.debug("Cliente lento en el grupo {}, se cierra el stream", subscriber.groupId);
+      remove(subscriber);
+      subscriber.emitter.complete();
+      return;
+    }
+    scheduleDrain(subscriber);
+  }
+
+  private void scheduleDrain(Subscriber subscriber) {
+    if (!subscriber.draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      sender.execute(() -> drain(subscriber));
+    } catch (RejectedExecutionException ex) {
+      subscriber.draining.set(false);
+    }
+  }
+
+  private void drain(Subscriber subscriber) {
+    try {
+      OutboundEvent next;
+      while ((next = subscriber.queue.poll()) != null) {
+        subscriber.emitter.send(next.toSse());
+      }
+    } catch (IOException | IllegalStateException ex) {
+      remove(subscriber);
+      return;
+    } finally {
+      subscriber.draining.set(false);
+    }
+    if (!subscriber.queue.isEmpty()) {
+      scheduleDrain(subscriber);
+    }
+  }
+
+  private void remove(Subscriber subscriber) {
+    if (!subscriber.closed.compareAndSet(false, true)) {
+      return;
+    }
+    subscriber.queue.clear();
+    subscribers.computeIfPresent(subscriber.groupId, (id, set) -> {
+      set.remove(subscriber);
+      return set.isEmpty() ? null : set;
+    });
+  }
+
+  private static ThreadFactory namedThreads(String prefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static final class Subscriber {
+    private final Long groupId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<OutboundEvent> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Subscriber(Long groupId, SseEmitter emitter, int bufferSize) {
+      this.groupId = groupId;
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(bufferSize);
+    }
+  }
+
+  private record OutboundEvent(String id, String name, String data) {
+    private static final OutboundEvent READY = new OutboundEvent(null, "READY", "{}");
+    private static final OutboundEvent HEARTBEAT = new OutboundEvent(null, null, null);
+
+    private SseEmitter.SseEventBuilder toSse() {
+      if (name == null) {
+        return SseEmitter.event().comment("ping");
+      }
+      SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name);
+      if (id != null) {
+        builder.id(id);
+      }
+      return builder.data(data);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import com.granada.guide.entity.GroupMember;
 import com.granada.guide.entity.GroupMemberId;
 import com.granada.guide.entity.GroupRole;
 import com.granada.guide.entity.User;
+import com.granada.guide.event.UserPlacesChangedEvent;
 import com.granada.guide.exception.ApiException;
 import com.granada.guide.repository.GroupInviteRepository;
 import com.granada.guide.repository.GroupMemberRepository;
@@ -19,6 +20,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,15 +34,18 @@ public class GroupService {
   private final GroupMemberRepository groupMemberRepository;
   private final GroupInviteRepository groupInviteRepository;
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public GroupService(GroupRepository groupRepository,
       GroupMemberRepository groupMemberRepository,
       GroupInviteRepository groupInviteRepository,
-      UserRepository userRepository) {
+      UserRepository userRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.groupRepository = groupRepository;
     this.groupMemberRepository = groupMemberRepository;
     this.groupInviteRepository = groupInviteRepository;
     this.userRepository = userRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -137,6 +142,7 @@ public class GroupService {
     member.setUser(user);
     member.setRole(role);
     groupMemberRepository.save(member);
+    eventPublisher.publishEvent(new UserPlacesChangedEvent(user.getId()));
   }
 
   private GroupResponse toResponse(Group group) {
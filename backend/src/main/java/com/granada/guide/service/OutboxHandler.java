@@ -0,0 +1,9 @@
+package com.granada.guide.service;
+
+public interface OutboxHandler<T> {
+  String type();
+
+  Class<T> payloadType();
+
+  void handle(T payload) throws Exception;
+}
@@ -0,0 +1,242 @@
+package com.granada.guide.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.granada.guide.entity.OutboxEvent;
+import com.granada.guide.entity.OutboxStatus;
+import com.granada.guide.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class OutboxService {
+  private static final Logger log = LoggerFactory.getLogger(OutboxService.class);
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, OutboxHandler<?>> handlers = new HashMap<>();
+  private final boolean enabled;
+  private final int maxInFlight;
+  private final int maxAttempts;
+  private final long pollIntervalMs;
+  private final Duration lease;
+  private final Duration backoffBase;
+  private final Duration backoffMax;
+  private final Duration retention;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicBoolean wakeupPending = new AtomicBoolean();
+  private final ScheduledExecutorService poller;
+  private final ExecutorService workers;
+
+  public OutboxService(OutboxEventRepository outboxEventRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      List<OutboxHandler<?>> handlers,
+      MeterRegistry meterRegistry,
+      @Value("${app.outbox.enabled:true}") boolean enabled,
+      @Value("${app.outbox.worker-threads:4}") int workerThreads,
+      @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+      @Value("${app.outbox.poll-interval-ms:1000}") long pollIntervalMs,
+      @Value("${app.outbox.lease-seconds:300}") long leaseSeconds,
+      @Value("${app.outbox.backoff-base-seconds:5}") long backoffBaseSeconds,
+      @Value("${app.outbox.backoff-max-seconds:600}") long backoffMaxSeconds,
+      @Value("${app.outbox.retention-days:7}") long retentionDays) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    for (OutboxHandler<?> handler : handlers) {
+      this.handlers.put(handler.type(), handler);
+    }
+    this.enabled = enabled;
+    this.maxInFlight = workerThreads * 2;
+    this.maxAttempts = maxAttempts;
+    this.pollIntervalMs = pollIntervalMs;
+    this.lease = Duration.ofSeconds(leaseSeconds);
+    this.backoffBase = Duration.ofSeconds(backoffBaseSeconds);
+    this.backoffMax = Duration.ofSeconds(backoffMaxSeconds);
+    this.retention = Duration.ofDays(retentionDays);
+    this.poller = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("outbox-poller").daemon().factory());
+    this.workers = Executors.newFixedThreadPool(workerThreads,
+        Thread.ofPlatform().name("outbox-worker-", 0).daemon().factory());
+    Gauge.builder("outbox.inflight", inFlight, AtomicInteger::get).register(meterRegistry);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueue(String type, Long aggregateId, Object payload) {
+    OutboxEvent event = new OutboxEvent();
+    event.setType(type);
+    event.setAggregateId(aggregateId);
+    try {
+      event.setPayload(payload == null ? null : objectMapper.writeValueAsString(payload));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("No se pudo serializar el evento " + type, ex);
+    }
+    outboxEventRepository.save(event);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        wakeUp();
+      }
+    });
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    poller.scheduleWithFixedDelay(this::pollSafely, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    poller.scheduleWithFixedDelay(this::purge, 1, 60, TimeUnit.MINUTES);
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    poller.shutdownNow();
+    workers.shutdown();
+    workers.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  private void wakeUp() {
+    if (enabled && wakeupPending.compareAndSet(false, true)) {
+      poller.execute(() -> {
+        wakeupPending.set(false);
+        pollSafely();
+      });
+    }
+  }
+
+  private void pollSafely() {
+    try {
+      poll();
+    } catch (RuntimeException ex) {
+      log.warn("Fallo leyendo la outbox: {}", ex.getMessage());
+    }
+  }
+
+  private void poll() {
+    int free = maxInFlight - inFlight.get();
+    if (free <= 0) {
+      return;
+    }
+    List<OutboxEvent> claimed = claim(free);
+    for (OutboxEvent event : claimed) {
+      inFlight.incrementAndGet();
+      workers.execute(() -> {
+        try {
+          process(event);
+        } finally {
+          inFlight.decrementAndGet();
+        }
+      });
+    }
+    if (claimed.size() == free) {
+      wakeUp();
+    }
+  }
+
+  private List<OutboxEvent> claim(int limit) {
+    return transactionTemplate.execute(status -> {
+      Instant now = Instant.now();
+      List<OutboxEvent> due = outboxEventRepository.lockDue(now, limit);
+      for (OutboxEvent event : due) {
+        event.setAttempts(event.getAttempts() + 1);
+        event.setAvailableAt(now.plus(lease));
+      }
+      return due;
+    });
+  }
+
+  private void process(OutboxEvent event) {
+    OutboxHandler<?> handler = handlers.get(event.getType());
+    if (handler == null) {
+      outboxEventRepository.finish(event.getId(), OutboxStatus.DEAD, Instant.now(),
+          "Sin manejador para " + event.getType());
+      count(event, "dead");
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      dispatch(handler, event);
+      outboxEventRepository.finish(event.getId(), OutboxStatus.DONE, Instant.now(), null);
+      count(event, "done");
+    } catch (Exception ex) {
+      String error = truncate(ex.getClass().getSimpleName() + ": " + ex.getMessage());
+      if (event.getAttempts() >= maxAttempts) {
+        log.error("Evento de outbox {} ({}) descartado tras {} intentos: {}",
+            event.getId(), event.getType(), event.getAttempts(), error);
+        outboxEventRepository.finish(event.getId(), OutboxStatus.DEAD, Instant.now(), error);
+        count(event, "dead");
+      } else {
+        Instant retryAt = Instant.now().plus(backoff(event.getAttempts()));
+        log.warn("Evento de outbox {} ({}) fallo en el intento {}, reintento en {}: {}",
+            event.getId(), event.getType(), event.getAttempts(), retryAt, error);
+        outboxEventRepository.retryLater(event.getId(), retryAt, error);
+        count(event, "retry");
+      }
+    } finally {
+      Timer.builder("outbox.handle")
+          .tag("type", event.getType())
+          .register(meterRegistry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private <T> void dispatch(OutboxHandler<T> handler, OutboxEvent event) throws Exception {
+    T payload = event.getPayload() == null ? null : objectMapper.readValue(event.getPayload(), handler.payloadType());
+    handler.handle(payload);
+  }
+
+  private void purge() {
+    try {
+      int removed = outboxEventRepository.purge(OutboxStatus.DONE, Instant.now().minus(retention));
+      if (removed > 0) {
+        log.info("Outbox: {} eventos procesados eliminados", removed);
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Fallo purgando la outbox: {}", ex.getMessage());
+    }
+  }
+
+  private Duration backoff(int attempts) {
+    Duration delay = backoffBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+  }
+
+  private void count(OutboxEvent event, String result) {
+    meterRegistry.counter("outbox.events", "type", event.getType(), "result", result).increment();
+  }
+
+  private static String truncate(String value) {
+    return value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+  }
+}
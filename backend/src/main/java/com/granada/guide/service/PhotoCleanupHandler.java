@@ -0,0 +1,30 @@
+package com.granada.guide.service;
+
+import com.granada.guide.event.PhotoFileRef;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PhotoCleanupHandler implements OutboxHandler<PhotoFileRef> {
+  public static final String TYPE = "PHOTO_FILE_DELETE";
+
+  private final FileStorageService fileStorageService;
+
+  public PhotoCleanupHandler(FileStorageService fileStorageService) {
+    this.fileStorageService = fileStorageService;
+  }
+
+  @Override
+  public String type() {
+    return TYPE;
+  }
+
+  @Override
+  public Class<PhotoFileRef> payloadType() {
+    return PhotoFileRef.class;
+  }
+
+  @Override
+  public void handle(PhotoFileRef ref) {
+    fileStorageService.deleteStored(ref.url());
+  }
+}
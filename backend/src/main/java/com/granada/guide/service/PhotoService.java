@@ -5,12 +5,16 @@ import com.granada.guide.dto.PhotoDtos.PhotoResponse;
 import com.granada.guide.entity.Photo;
 import com.granada.guide.entity.Place;
 import com.granada.guide.entity.User;
+import com.granada.guide.event.GroupChangeEvent;
+import com.granada.guide.event.GroupChangeType;
+import com.granada.guide.event.PhotoFileRef;
 import com.granada.guide.exception.ApiException;
 import com.granada.guide.repository.PhotoRepository;
 import com.granada.guide.repository.PlaceRepository;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,40 +26,64 @@ public class PhotoService {
   private final PlaceRepository placeRepository;
   private final GroupService groupService;
   private final AuthService authService;
+  private final RequestCoalescer requestCoalescer;
   private final FileStorageService fileStorageService;
+  private final OutboxService outboxService;
+  private final ApplicationEventPublisher eventPublisher;
 
   public PhotoService(PhotoRepository photoRepository,
       PlaceRepository placeRepository,
       GroupService groupService,
       AuthService authService,
-      FileStorageService fileStorageService) {
+      RequestCoalescer requestCoalescer,
+      FileStorageService fileStorageService,
+      OutboxService outboxService,
+      ApplicationEventPublisher eventPublisher) {
     this.photoRepository = photoRepository;
     this.placeRepository = placeRepository;
     this.groupService = groupService;
     this.authService = authService;
+    this.requestCoalescer = requestCoalescer;
     this.fileStorageService = fileStorageService;
+    this.outboxService = outboxService;
+    this.eventPublisher = eventPublisher;
   }
 
-  @Transactional(readOnly = true)
   public List<PhotoResponse> list(Long userId, Long placeId) {
-    Place place = getPlaceForMember(placeId, userId);
-    return photoRepository.findByPlace_IdAndHiddenFalseOrderByCreatedAtAsc(place.getId())
-        .stream()
-        .map(this::toResponse)
-        .collect(Collectors.toList());
+    return listVisible(getPlaceForMember(placeId, userId).getId());
+  }
+
+  List<PhotoResponse> listVisible(Long placeId) {
+    return requestCoalescer.executeReadOnly(RequestCoalescer.Key.of("photos", placeId,
+        requestCoalescer.writeSequence("photos", placeId)),
+        () -> photoRepository.findByPlace_IdAndHiddenFalseOrderByCreatedAtAsc(placeId)
+            .stream()
+            .map(this::toResponse)
+            .toList());
   }
 
   @Transactional
   public PhotoResponse upload(Long userId, Long placeId, MultipartFile file, String caption) {
     Place place = getPlaceForMember(placeId, userId);
+    return save(userId, place, fileStorageService.storePlacePhoto(placeId, file), caption);
+  }
+
+  @Transactional
+  public PhotoResponse register(Long userId, Long placeId, String url, String caption) {
+    return save(userId, getPlaceForMember(placeId, userId), url, caption);
+  }
+
+  private PhotoResponse save(Long userId, Place place, String url, String caption) {
     User user = authService.getUserOrThrow(userId);
-    String url = fileStorageService.storePlacePhoto(placeId, file);
     Photo photo = new Photo();
     photo.setPlace(place);
     photo.setUser(user);
     photo.setUrl(url);
     photo.setCaption(caption);
     Photo saved = photoRepository.save(photo);
+    outboxService.enqueue(PhotoThumbnailHandler.TYPE, saved.getId(), new PhotoFileRef(saved.getId(), url));
+    eventPublisher.publishEvent(new GroupChangeEvent(GroupChangeType.PHOTO_UPLOADED,
+        place.getGroup().getId(), place.getId(), saved.getId(), userId, null));
     return toResponse(saved);
   }
 
@@ -63,16 +91,26 @@ public class PhotoService {
   public void delete(Long userId, Long photoId) {
     Photo photo = photoRepository.findById(photoId)
         .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Foto no encontrada"));
-    groupService.getGroupForMember(photo.getPlace().getGroup().getId(), userId);
+    Long groupId = photo.getPlace().getGroup().getId();
+    groupService.getGroupForMember(groupId, userId);
     photoRepository.delete(photo);
+    outboxService.enqueue(PhotoCleanupHandler.TYPE, photoId, new PhotoFileRef(photoId, photo.getUrl()));
+    eventPublisher.publishEvent(new GroupChangeEvent(GroupChangeType.PHOTO_DELETED,
+        groupId, photo.getPlace().getId(), photoId, userId, null));
   }
 
   @Transactional(readOnly = true)
-  public PhotoFile loadFile(Long userId, Long photoId) {
+  public PhotoFile loadFile(Long userId, Long photoId, boolean thumbnail) {
     Photo photo = photoRepository.findById(photoId)
         .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Foto no encontrada"));
     groupService.getGroupForMember(photo.getPlace().getGroup().getId(), userId);
     Path path = fileStorageService.resolvePath(photo.getUrl());
+    if (thumbnail) {
+      Path thumbnailPath = fileStorageService.thumbnailPath(path);
+      if (Files.exists(thumbnailPath)) {
+        path = thumbnailPath;
+      }
+    }
     return new PhotoFile(fileStorageService.loadAsResource(path),
         fileStorageService.detectContentType(path));
   }
@@ -87,6 +125,7 @@ public class PhotoService {
   private PhotoResponse toResponse(Photo photo) {
     UserSummary user = new UserSummary(photo.getUser().getId(), photo.getUser().getName());
     String fileUrl = "/api/photos/" + photo.getId() + "/file";
-    return new PhotoResponse(photo.getId(), user, fileUrl, photo.getCaption(), photo.getCreatedAt());
+    return new PhotoResponse(photo.getId(), user, fileUrl, fileUrl + "?size=thumb", photo.getCaption(),
+        photo.getCreatedAt());
   }
 }
@@ -0,0 +1,77 @@
+package com.granada.guide.service;
+
+import com.granada.guide.event.PhotoFileRef;
+import com.granada.guide.exception.ApiException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import javax.imageio.ImageIO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PhotoThumbnailHandler implements OutboxHandler<PhotoFileRef> {
+  public static final String TYPE = "PHOTO_THUMBNAIL";
+
+  private final FileStorageService fileStorageService;
+  private final int maxSize;
+
+  public PhotoThumbnailHandler(FileStorageService fileStorageService,
+      @Value("${app.photos.thumbnail-size:480}") int maxSize) {
+    this.fileStorageService = fileStorageService;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public String type() {
+    return TYPE;
+  }
+
+  @Override
+  public Class<PhotoFileRef> payloadType() {
+    return PhotoFileRef.class;
+  }
+
+  @Override
+  public void handle(PhotoFileRef ref) throws Exception {
+    Path original;
+    try {
+      original = fileStorageService.resolvePath(ref.url());
+    } catch (ApiException ex) {
+      return;
+    }
+    Path target = fileStorageService.thumbnailPath(original);
+    if (Files.exists(target)) {
+      return;
+    }
+    BufferedImage source = ImageIO.read(original.toFile());
+    if (source == null) {
+      return;
+    }
+    double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+    int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+    int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+    BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = thumbnail.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    Files.createDirectories(target.getParent());
+    Path temp = Files.createTempFile(target.getParent(), ".thumb-", ".jpg");
+    try {
+      if (!ImageIO.write(thumbnail, "jpg", temp.toFile())) {
+        throw new IllegalStateException("Sin codificador JPEG");
+      }
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
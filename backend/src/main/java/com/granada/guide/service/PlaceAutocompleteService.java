@@ -0,0 +1,265 @@
+package com.granada.guide.service;
+
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.dto.PlaceDtos.PlaceSuggestion;
+import com.granada.guide.event.GroupChangeEvent;
+import com.granada.guide.repository.PlaceRepository;
+import com.granada.guide.repository.PlaceRepository.PlaceLabelView;
+import com.granada.guide.util.TrigramIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+@Service
+public class PlaceAutocompleteService {
+  private static final Logger log = LoggerFactory.getLogger(PlaceAutocompleteService.class);
+  private static final int DEFAULT_LIMIT = 8;
+  private static final int MAX_LIMIT = 20;
+  private static final int MAX_RELOAD_ATTEMPTS = 5;
+
+  private final PlaceRepository placeRepository;
+  private final GroupService groupService;
+  private final PrimaryReader primaryReader;
+  private final Timer suggestTimer;
+  private final Map<Long, GroupIndex> groups = new ConcurrentHashMap<>();
+  private final ExecutorService refresher = Executors.newSingleThreadExecutor(
+      Thread.ofPlatform().name("autocomplete-refresh").daemon().factory());
+
+  public PlaceAutocompleteService(PlaceRepository placeRepository,
+      GroupService groupService,
+      PrimaryReader primaryReader,
+      MeterRegistry meterRegistry) {
+    this.placeRepository = placeRepository;
+    this.groupService = groupService;
+    this.primaryReader = primaryReader;
+    this.suggestTimer = Timer.builder("places.autocomplete.suggest").register(meterRegistry);
+    Gauge.builder("places.autocomplete.memory", this, PlaceAutocompleteService::estimatedBytes)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("places.autocomplete.documents", this, PlaceAutocompleteService::documentCount)
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    reloadAll();
+  }
+
+  public void reload(Long groupId) {
+    for (int attempt = 0; attempt < MAX_RELOAD_ATTEMPTS; attempt++) {
+      long writes = writesOf(groupId);
+      List<Entry> entries = new ArrayList<>();
+      for (PlaceLabelView label : primaryReader.read(() -> placeRepository.findLabelsByGroupId(groupId))) {
+        entries.add(toEntry(label));
+      }
+      if (replace(groupId, entries, writes)) {
+        return;
+      }
+    }
+    log.warn("Indice de autocompletado del grupo {} sin recargar: escrituras concurrentes", groupId);
+  }
+
+  public void reloadAll() {
+    Map<Long, Long> writes = new HashMap<>();
+    groups.forEach((groupId, index) -> writes.put(groupId, index.writes));
+    Map<Long, List<Entry>> byGroup = new HashMap<>();
+    for (PlaceLabelView label : primaryReader.read(placeRepository::findAllLabels)) {
+      byGroup.computeIfAbsent(label.getGroupId(), id -> new ArrayList<>()).add(toEntry(label));
+    }
+    for (Long groupId : groups.keySet()) {
+      byGroup.putIfAbsent(groupId, List.of());
+    }
+    byGroup.forEach((groupId, entries) -> {
+      if (!replace(groupId, entries, writes.getOrDefault(groupId, 0L))) {
+        reload(groupId);
+      }
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refresher.shutdownNow();
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onGroupChange(GroupChangeEvent event) {
+    switch (event.type()) {
+      case PLACE_CREATED, PLACE_UPDATED -> upsert(event.place());
+      case PLACE_DELETED -> remove(event.groupId(), event.placeId());
+      default -> {
+      }
+    }
+  }
+
+  public List<PlaceSuggestion> suggest(Long userId, String query, Integer limitValue) {
+    if (!StringUtils.hasText(query)) {
+      return List.of();
+    }
+    int limit = limitValue == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limitValue, MAX_LIMIT));
+    List<Long> groupIds = groupService.getGroupIdsForUser(userId);
+    return suggestTimer.record(() -> {
+      List<PlaceSuggestion> suggestions = new ArrayList<>();
+      for (Long groupId : groupIds) {
+        GroupIndex index = groups.get(groupId);
+        if (index == null) {
+          continue;
+        }
+        Snapshot snapshot = index.snapshot;
+        for (TrigramIndex.Match match : snapshot.index.search(query, limit)) {
+          Entry entry = snapshot.entries[match.doc()];
+          suggestions.add(new PlaceSuggestion(snapshot.placeIds[match.doc()], groupId,
+              entry.name(), entry.address(), entry.category(), match.score()));
+        }
+      }
+      suggestions.sort(Comparator.comparingDouble(PlaceSuggestion::score).reversed());
+      return suggestions.size() > limit ? List.copyOf(suggestions.subList(0, limit)) : suggestions;
+    });
+  }
+
+  private void upsert(PlaceResponse place) {
+    if (place == null) {
+      return;
+    }
+    Entry entry = new Entry(place.id(), place.name(), place.address(),
+        place.category() != null ? place.category().name() : null);
+    GroupIndex index = groups.computeIfAbsent(place.groupId(), id -> new GroupIndex());
+    index.lock.lock();
+    try {
+      index.entries.put(entry.id(), entry);
+      index.writes++;
+    } finally {
+      index.lock.unlock();
+    }
+    scheduleRefresh(index);
+  }
+
+  private long writesOf(Long groupId) {
+    GroupIndex index = groups.get(groupId);
+    return index == null ? 0 : index.writes;
+  }
+
+  private boolean replace(Long groupId, List<Entry> entries, long expectedWrites) {
+    GroupIndex index = groups.computeIfAbsent(groupId, id -> new GroupIndex());
+    index.lock.lock();
+    try {
+      if (index.writes != expectedWrites) {
+        return false;
+      }
+      index.entries.clear();
+      for (Entry entry : entries) {
+        index.entries.put(entry.id(), entry);
+      }
+    } finally {
+      index.lock.unlock();
+    }
+    scheduleRefresh(index);
+    return true;
+  }
+
+  private void remove(Long groupId, Long placeId) {
+    GroupIndex index = groups.computeIfAbsent(groupId, id -> new GroupIndex());
+    index.lock.lock();
+    try {
+      index.entries.remove(placeId);
+      index.writes++;
+    } finally {
+      index.lock.unlock();
+    }
+    scheduleRefresh(index);
+  }
+
+  private void scheduleRefresh(GroupIndex index) {
+    if (!index.refreshPending.compareAndSet(false, true)) {
+      return;
+    }
+    refresher.execute(() -> {
+      index.refreshPending.set(false);
+      index.refresh();
+    });
+  }
+
+  private static Entry toEntry(PlaceLabelView label) {
+    return new Entry(label.getId(), label.getName(), label.getAddress(), label.getCategoryName());
+  }
+
+  private double estimatedBytes() {
+    long bytes = 0;
+    for (GroupIndex index : groups.values()) {
+      Snapshot snapshot = index.snapshot;
+      bytes += snapshot.index.estimatedBytes() + 8L * snapshot.placeIds.length;
+    }
+    return bytes;
+  }
+
+  private double documentCount() {
+    long count = 0;
+    for (GroupIndex index : groups.values()) {
+      count += index.snapshot.placeIds.length;
+    }
+    return count;
+  }
+
+  private record Entry(Long id, String name, String address, String category) {
+    private String text() {
+      StringBuilder sb = new StringBuilder(name == null ? "" : name);
+      if (address != null) {
+        sb.append(' ').append(address);
+      }
+      if (category != null) {
+        sb.append(' ').append(category);
+      }
+      return sb.toString();
+    }
+  }
+
+  private record Snapshot(long[] placeIds, Entry[] entries, TrigramIndex index) {
+    private static final Snapshot EMPTY =
+        new Snapshot(new long[0], new Entry[0], TrigramIndex.build(new String[0], new String[0]));
+  }
+
+  private static final class GroupIndex {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private volatile long writes;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private void refresh() {
+      Entry[] ordered;
+      lock.lock();
+      try {
+        ordered = entries.values().toArray(new Entry[0]);
+      } finally {
+        lock.unlock();
+      }
+      long[] placeIds = new long[ordered.length];
+      String[] names = new String[ordered.length];
+      String[] texts = new String[ordered.length];
+      for (int i = 0; i < ordered.length; i++) {
+        placeIds[i] = ordered[i].id();
+        names[i] = ordered[i].name();
+        texts[i] = ordered[i].text();
+      }
+      snapshot = new Snapshot(placeIds, ordered, TrigramIndex.build(names, texts));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.granada.guide.service;
+
+import com.granada.guide.dto.CommentDtos.CommentResponse;
+import com.granada.guide.dto.PhotoDtos.PhotoResponse;
+import com.granada.guide.dto.PlaceDtos.PlaceDetailResponse;
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.exception.ApiException;
+import com.granada.guide.metrics.SqlStatementCounter;
+import com.granada.guide.repository.PlaceRepository;
+import com.granada.guide.repository.PlaceStatusRepository;
+import com.granada.guide.service.PlaceSnapshotService.GroupPlaces;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PlaceDetailService {
+  private final PlaceRepository placeRepository;
+  private final PlaceStatusRepository placeStatusRepository;
+  private final GroupService groupService;
+  private final PlaceSnapshotService placeSnapshotService;
+  private final CommentService commentService;
+  private final PhotoService photoService;
+  private final SqlStatementCounter sqlStatementCounter;
+  private final Timer detailTimer;
+  private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("place-detail-", 0).factory());
+
+  public PlaceDetailService(PlaceRepository placeRepository,
+      PlaceStatusRepository placeStatusRepository,
+      GroupService groupService,
+      PlaceSnapshotService placeSnapshotService,
+      CommentService commentService,
+      PhotoService photoService,
+      SqlStatementCounter sqlStatementCounter,
+      MeterRegistry meterRegistry) {
+    this.placeRepository = placeRepository;
+    this.placeStatusRepository = placeStatusRepository;
+    this.groupService = groupService;
+    this.placeSnapshotService = placeSnapshotService;
+    this.commentService = commentService;
+    this.photoService = photoService;
+    this.sqlStatementCounter = sqlStatementCounter;
+    this.detailTimer = Timer.builder("places.detail").register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  public PlaceDetailResponse detail(Long userId, Long placeId) {
+    long start = System.nanoTime();
+    Long groupId = placeRepository.findGroupIdById(placeId)
+        .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Sitio no encontrado"));
+    groupService.getGroupForMember(groupId, userId);
+
+    CompletableFuture<PlaceResponse> place = fork(() -> place(groupId, userId, placeId));
+    CompletableFuture<List<CommentResponse>> comments = fork(() -> commentService.listVisible(placeId));
+    CompletableFuture<List<PhotoResponse>> photos = fork(() -> photoService.listVisible(placeId));
+    try {
+      CompletableFuture.allOf(place, comments, photos).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+    List<CommentResponse> commentList = comments.join();
+    List<PhotoResponse> photoList = photos.join();
+    PlaceDetailResponse response = new PlaceDetailResponse(place.join(), commentList, photoList,
+        commentList.size(), photoList.size());
+    detailTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return response;
+  }
+
+  private PlaceResponse place(Long groupId, Long userId, Long placeId) {
+    GroupPlaces snapshot = placeSnapshotService.forGroup(groupId);
+    int row = snapshot.indexOf(placeId);
+    if (row < 0) {
+      throw new ApiException(HttpStatus.NOT_FOUND, "Sitio no encontrado");
+    }
+    return snapshot.toResponse(row, placeStatusRepository.findByPlace_IdAndUser_Id(placeId, userId).orElse(null));
+  }
+
+  private <T> CompletableFuture<T> fork(Supplier<T> task) {
+    return CompletableFuture.supplyAsync(sqlStatementCounter.propagate(task), executor);
+  }
+}
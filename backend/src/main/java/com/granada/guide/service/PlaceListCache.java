@@ -0,0 +1,144 @@
+package com.granada.guide.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.granada.guide.entity.PlaceVisitStatus;
+import com.granada.guide.event.UserPlacesChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class PlaceListCache {
+  private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+  private final PlaceService placeService;
+  private final PlaceSnapshotService placeSnapshotService;
+  private final GroupService groupService;
+  private final ObjectMapper objectMapper;
+  private final RequestCoalescer requestCoalescer;
+  private final PrimaryReader primaryReader;
+  private final Map<Long, AtomicLong> userVersions = new ConcurrentHashMap<>();
+  private final Cache<Key, Entry> cache;
+
+  public PlaceListCache(PlaceService placeService,
+      PlaceSnapshotService placeSnapshotService,
+      GroupService groupService,
+      ObjectMapper objectMapper,
+      RequestCoalescer requestCoalescer,
+      PrimaryReader primaryReader,
+      MeterRegistry meterRegistry,
+      @Value("${app.places.list-cache.max-bytes:67108864}") long maxBytes,
+      @Value("${app.places.list-cache.expire-after-access-minutes:30}") long expireMinutes) {
+    this.placeService = placeService;
+    this.placeSnapshotService = placeSnapshotService;
+    this.groupService = groupService;
+    this.objectMapper = objectMapper;
+    this.requestCoalescer = requestCoalescer;
+    this.primaryReader = primaryReader;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher((Key key, Entry entry) -> entry.value.body().length + ENTRY_OVERHEAD_BYTES)
+        .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "places.list");
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onUserPlacesChanged(UserPlacesChangedEvent event) {
+    invalidateUser(event.userId());
+  }
+
+  public void invalidateUser(Long userId) {
+    userVersions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public CachedPlaceList list(Long userId, String statusValue, boolean columnar) {
+    PlaceVisitStatus status = PlaceService.parseStatus(statusValue);
+    Key key = new Key(userId, status, columnar);
+    long userVersion = userVersion(userId);
+    Entry entry = cache.getIfPresent(key);
+    if (entry != null && entry.userVersion == userVersion && entry.isCurrent(placeSnapshotService)) {
+      return entry.value;
+    }
+    List<Long> groupIds = groupService.getGroupIdsForUser(userId).stream().sorted().toList();
+    long[] versions = new long[groupIds.size()];
+    for (int i = 0; i < versions.length; i++) {
+      versions[i] = placeSnapshotService.getVersion(groupIds.get(i));
+    }
+    RequestCoalescer.Key flight = RequestCoalescer.Key.of("places", userId, userVersion, status, columnar,
+        groupIds, Arrays.toString(versions));
+    return requestCoalescer.execute(flight, () -> load(key, userVersion, statusValue, groupIds, versions));
+  }
+
+  private CachedPlaceList load(Key key, long userVersion, String statusValue, List<Long> groupIds,
+      long[] versions) {
+    Long userId = key.userId;
+    boolean columnar = key.columnar;
+    Object body = primaryReader.read(() -> columnar
+        ? placeService.listPlaceColumns(userId, null, statusValue)
+        : placeService.listPlaces(userId, null, statusValue));
+    byte[] bytes;
+    try {
+      bytes = objectMapper.writeValueAsBytes(body);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("No se pudo serializar el listado de sitios", ex);
+    }
+    CachedPlaceList value = new CachedPlaceList(etag(bytes), bytes);
+    cache.put(key, new Entry(userVersion, groupIds, versions, value));
+    return value;
+  }
+
+  private long userVersion(Long userId) {
+    AtomicLong version = userVersions.get(userId);
+    return version == null ? 0 : version.get();
+  }
+
+  private static String etag(byte[] body) {
+    return "W/\"" + UUID.nameUUIDFromBytes(body) + "\"";
+  }
+
+  public record CachedPlaceList(String etag, byte[] body) {}
+
+  private record Key(Long userId, PlaceVisitStatus status, boolean columnar) {}
+
+  private static final class Entry {
+    private final long userVersion;
+    private final List<Long> groupIds;
+    private final long[] versions;
+    private final CachedPlaceList value;
+
+    private Entry(long userVersion, List<Long> groupIds, long[] versions, CachedPlaceList value) {
+      this.userVersion = userVersion;
+      this.groupIds = groupIds;
+      this.versions = versions;
+      this.value = value;
+    }
+
+    private boolean isCurrent(PlaceSnapshotService snapshots) {
+      for (int i = 0; i < versions.length; i++) {
+        if (snapshots.getVersion(groupIds.get(i)) != versions[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
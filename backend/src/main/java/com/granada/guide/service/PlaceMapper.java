@@ -0,0 +1,121 @@
+package com.granada.guide.service;
+
+import com.granada.guide.dto.CommonDtos.CategorySummary;
+import com.granada.guide.dto.CommonDtos.UserSummary;
+import com.granada.guide.dto.PlaceDtos.PlaceColumns;
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.entity.Place;
+import com.granada.guide.entity.PlaceStatus;
+import com.granada.guide.entity.PlaceVisitStatus;
+import com.granada.guide.exception.ApiException;
+import com.granada.guide.util.GeoUtils.BoundingBox;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+
+public final class PlaceMapper {
+
+  private PlaceMapper() {
+  }
+
+  public static PlaceColumns toColumns(List<PlaceResponse> places) {
+    int count = places.size();
+    Map<Long, Integer> categoryIndex = new HashMap<>();
+    Map<Long, Integer> userIndex = new HashMap<>();
+    List<CategorySummary> categories = new ArrayList<>();
+    List<UserSummary> users = new ArrayList<>();
+    long[] ids = new long[count];
+    long[] groupIds = new long[count];
+    String[] names = new String[count];
+    double[] lats = new double[count];
+    double[] lngs = new double[count];
+    PlaceVisitStatus[] statuses = new PlaceVisitStatus[count];
+    String[] notes = new String[count];
+    String[] addresses = new String[count];
+    int[] categoryRefs = new int[count];
+    int[] userRefs = new int[count];
+    Instant[] createdAt = new Instant[count];
+    Instant[] visitedAt = new Instant[count];
+    PlaceVisitStatus[] myStatuses = new PlaceVisitStatus[count];
+    boolean[] favorites = new boolean[count];
+    for (int i = 0; i < count; i++) {
+      PlaceResponse place = places.get(i);
+      ids[i] = place.id();
+      groupIds[i] = place.groupId();
+      names[i] = place.name();
+      lats[i] = place.lat();
+      lngs[i] = place.lng();
+      statuses[i] = place.status();
+      notes[i] = place.notes();
+      addresses[i] = place.address();
+      CategorySummary category = place.category();
+      categoryRefs[i] = category == null ? -1 : categoryIndex.computeIfAbsent(category.id(), id -> {
+        categories.add(category);
+        return categories.size() - 1;
+      });
+      UserSummary createdBy = place.createdBy();
+      userRefs[i] = createdBy == null ? -1 : userIndex.computeIfAbsent(createdBy.id(), id -> {
+        users.add(createdBy);
+        return users.size() - 1;
+      });
+      createdAt[i] = place.createdAt();
+      visitedAt[i] = place.visitedAt();
+      myStatuses[i] = place.myStatus();
+      favorites[i] = place.favorite();
+    }
+    return new PlaceColumns(count, categories.toArray(new CategorySummary[0]),
+        users.toArray(new UserSummary[0]), ids, groupIds, names, lats, lngs, statuses, notes, addresses,
+        categoryRefs, userRefs, createdAt, visitedAt, myStatuses, favorites);
+  }
+
+  public static PlaceResponse toResponse(Place place, PlaceStatus userState) {
+    UserSummary createdBy = new UserSummary(
+        place.getCreatedBy().getId(),
+        place.getCreatedBy().getName());
+    CategorySummary category = place.getCategory() != null
+        ? new CategorySummary(
+            place.getCategory().getId(),
+            place.getCategory().getName(),
+            place.getCategory().getIcon())
+        : null;
+    return new PlaceResponse(
+        place.getId(),
+        place.getGroup().getId(),
+        place.getName(),
+        place.getLat(),
+        place.getLng(),
+        place.getStatus(),
+        place.getNotes(),
+        place.getAddress(),
+        category,
+        createdBy,
+        place.getCreatedAt(),
+        place.getVisitedAt(),
+        userState != null ? userState.getStatus() : null,
+        userState != null && userState.isFavorite()
+    );
+  }
+
+  public static BoundingBox parseBoundingBox(String value) {
+    if (!StringUtils.hasText(value)) {
+      return null;
+    }
+    String[] parts = value.split(",");
+    if (parts.length != 4) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, "Formato de bbox invalido");
+    }
+    try {
+      double minLng = Double.parseDouble(parts[0]);
+      double minLat = Double.parseDouble(parts[1]);
+      double maxLng = Double.parseDouble(parts[2]);
+      double maxLat = Double.parseDouble(parts[3]);
+      return new BoundingBox(minLat, maxLat, minLng, maxLng);
+    } catch (NumberFormatException ex) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, "Valores de bbox invalidos");
+    }
+  }
+}
@@ -1,20 +1,40 @@
 package com.granada.guide.service;
 
-import com.granada.guide.dto.CommonDtos.CategorySummary;
-import com.granada.guide.dto.CommonDtos.UserSummary;
 import com.granada.guide.dto.PlaceDtos.CreatePlaceRequest;
+import com.granada.guide.dto.PlaceDtos.PlaceColumns;
 import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.dto.PlaceDtos.UpdateMyPlaceStatusRequest;
 import com.granada.guide.dto.PlaceDtos.UpdatePlaceRequest;
 import com.granada.guide.entity.Group;
 import com.granada.guide.entity.Category;
 import com.granada.guide.entity.Place;
+import com.granada.guide.entity.PlaceStatus;
+import com.granada.guide.entity.PlaceStatusId;
 import com.granada.guide.entity.PlaceVisitStatus;
 import com.granada.guide.entity.User;
+import com.granada.guide.event.GroupChangeEvent;
+import com.granada.guide.event.GroupChangeType;
+import com.granada.guide.event.UserPlacesChangedEvent;
 import com.granada.guide.exception.ApiException;
 import com.granada.guide.repository.CategoryRepository;
 import com.granada.guide.repository.PlaceRepository;
+import com.granada.guide.repository.PlaceStatusRepository;
+import com.granada.guide.service.PlaceSnapshotService.GroupPlaces;
+import com.granada.guide.util.GeoUtils.BoundingBox;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,19 +42,48 @@ import org.springframework.util.StringUtils;
 
 @Service
 public class PlaceService {
+  private static final int USER_STATE_BATCH_SIZE = 1000;
+  private static final int SEARCH_DEFAULT_LIMIT = 20;
+  private static final int SEARCH_MAX_LIMIT = 100;
+  private static final int SEARCH_MAX_TERMS = 8;
+  private static final int MARIADB_MIN_TOKEN_SIZE = 3;
+
   private final PlaceRepository placeRepository;
+  private final PlaceStatusRepository placeStatusRepository;
   private final CategoryRepository categoryRepository;
   private final GroupService groupService;
+  private final PlaceSnapshotService placeSnapshotService;
   private final AuthService authService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean postgres;
+  private final Timer listFullTimer;
+  private final Timer listBboxTimer;
+  private final DistributionSummary listFullRows;
+  private final DistributionSummary listBboxRows;
 
   public PlaceService(PlaceRepository placeRepository,
+      PlaceStatusRepository placeStatusRepository,
       CategoryRepository categoryRepository,
       GroupService groupService,
-      AuthService authService) {
+      PlaceSnapshotService placeSnapshotService,
+      AuthService authService,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${spring.jpa.properties.hibernate.dialect:}") String dialect,
+      MeterRegistry meterRegistry) {
     this.placeRepository = placeRepository;
+    this.placeStatusRepository = placeStatusRepository;
     this.categoryRepository = categoryRepository;
     this.groupService = groupService;
+    this.placeSnapshotService = placeSnapshotService;
     this.authService = authService;
+    this.eventPublisher = eventPublisher;
+    this.postgres = dialect.contains("PostgreSQL");
+    this.listFullTimer = Timer.builder("places.list").tag("mode", "full").register(meterRegistry);
+    this.listBboxTimer = Timer.builder("places.list").tag("mode", "bbox").register(meterRegistry);
+    this.listFullRows = DistributionSummary.builder("places.list.rows")
+        .tag("mode", "full").register(meterRegistry);
+    this.listBboxRows = DistributionSummary.builder("places.list.rows")
+        .tag("mode", "bbox").register(meterRegistry);
   }
 
   @Transactional
@@ -56,7 +105,9 @@ public class PlaceService {
     }
     place.setCreatedBy(user);
     Place saved = placeRepository.save(place);
-    return toResponse(saved);
+    PlaceResponse response = toResponse(saved);
+    publishPlaceChange(GroupChangeType.PLACE_CREATED, userId, response);
+    return response;
   }
 
   @Transactional(readOnly = true)
@@ -66,21 +117,131 @@ public class PlaceService {
       return List.of();
     }
     PlaceVisitStatus statusFilter = parseStatus(statusValue);
-    BoundingBox bbox = parseBoundingBox(bboxValue);
-    List<Place> places = bbox == null
-        ? placeRepository.findByGroup_IdIn(groupIds)
-        : placeRepository.findByGroup_IdInAndLatBetweenAndLngBetween(
-            groupIds, bbox.minLat, bbox.maxLat, bbox.minLng, bbox.maxLng);
+    BoundingBox bbox = PlaceMapper.parseBoundingBox(bboxValue);
+    long start = System.nanoTime();
+    List<GroupPlaces> snapshots = new ArrayList<>(groupIds.size());
+    int[] groupEnds = new int[groupIds.size()];
+    int[] rows = new int[64];
+    List<Long> placeIds = new ArrayList<>();
+    for (int g = 0; g < groupIds.size(); g++) {
+      GroupPlaces places = placeSnapshotService.forGroup(groupIds.get(g));
+      snapshots.add(places);
+      for (int i = 0; i < places.size(); i++) {
+        if (places.matches(i, bbox, statusFilter)) {
+          if (placeIds.size() == rows.length) {
+            rows = Arrays.copyOf(rows, rows.length * 2);
+          }
+          rows[placeIds.size()] = i;
+          placeIds.add(places.id(i));
+        }
+      }
+      groupEnds[g] = placeIds.size();
+    }
+    Map<Long, PlaceStatus> userStates = loadUserStates(userId, placeIds);
+    List<PlaceResponse> responses = new ArrayList<>(placeIds.size());
+    int match = 0;
+    for (int g = 0; g < snapshots.size(); g++) {
+      GroupPlaces places = snapshots.get(g);
+      for (; match < groupEnds[g]; match++) {
+        responses.add(places.toResponse(rows[match], userStates.get(placeIds.get(match))));
+      }
+    }
+    (bbox == null ? listFullTimer : listBboxTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    (bbox == null ? listFullRows : listBboxRows).record(responses.size());
+    return responses;
+  }
+
+  public PlaceColumns listPlaceColumns(Long userId, String bboxValue, String statusValue) {
+    return PlaceMapper.toColumns(listPlaces(userId, bboxValue, statusValue));
+  }
+
+  @Transactional(readOnly = true)
+  public List<PlaceResponse> searchPlaces(Long userId, String query, String bboxValue, Integer limitValue) {
+    List<String> terms = searchTerms(query);
+    if (terms.isEmpty()) {
+      return List.of();
+    }
+    List<Long> groupIds = groupService.getGroupIdsForUser(userId);
+    if (groupIds.isEmpty()) {
+      return List.of();
+    }
+    BoundingBox bbox = PlaceMapper.parseBoundingBox(bboxValue);
+    int limit = limitValue == null ? SEARCH_DEFAULT_LIMIT : Math.max(1, Math.min(limitValue, SEARCH_MAX_LIMIT));
+    boolean hasBbox = bbox != null;
+    double minLat = hasBbox ? bbox.minLat() : 0;
+    double maxLat = hasBbox ? bbox.maxLat() : 0;
+    double minLng = hasBbox ? bbox.minLng() : 0;
+    double maxLng = hasBbox ? bbox.maxLng() : 0;
+    List<Long> rankedIds;
+    if (postgres) {
+      String tsQuery = String.join(" & ", terms.stream().map(term -> term + ":*").toList());
+      rankedIds = placeRepository.searchIdsPostgres(groupIds, tsQuery,
+          hasBbox, minLat, maxLat, minLng, maxLng, limit);
+    } else {
+      List<String> indexed = terms.stream()
+          .filter(term -> term.length() >= MARIADB_MIN_TOKEN_SIZE)
+          .toList();
+      if (indexed.isEmpty()) {
+        return List.of();
+      }
+      String booleanQuery = String.join(" ", indexed.stream().map(term -> "+" + term + "*").toList());
+      rankedIds = placeRepository.searchIdsMariaDb(groupIds, booleanQuery,
+          hasBbox, minLat, maxLat, minLng, maxLng, limit);
+    }
+    if (rankedIds.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Integer> rank = new HashMap<>();
+    for (int i = 0; i < rankedIds.size(); i++) {
+      rank.put(rankedIds.get(i), i);
+    }
+    List<Place> places = placeRepository.findByIdIn(rankedIds).stream()
+        .sorted(Comparator.comparingInt(place -> rank.get(place.getId())))
+        .toList();
+    Map<Long, PlaceStatus> userStates = loadUserStates(userId, places.stream().map(Place::getId).toList());
     return places.stream()
-        .filter(place -> statusFilter == null || place.getStatus() == statusFilter)
-        .map(this::toResponse)
+        .map(place -> PlaceMapper.toResponse(place, userStates.get(place.getId())))
         .toList();
   }
 
   @Transactional(readOnly = true)
   public PlaceResponse getPlace(Long userId, Long placeId) {
     Place place = getPlaceForMember(placeId, userId);
-    return toResponse(place);
+    PlaceStatus userState = placeStatusRepository.findByPlace_IdAndUser_Id(placeId, userId)
+        .orElse(null);
+    return PlaceMapper.toResponse(place, userState);
+  }
+
+  @Transactional
+  public PlaceResponse updateMyStatus(Long userId, Long placeId, UpdateMyPlaceStatusRequest request) {
+    Place place = getPlaceForMember(placeId, userId);
+    PlaceStatus userState = placeStatusRepository.findByPlace_IdAndUser_Id(placeId, userId)
+        .orElseGet(() -> {
+          PlaceStatus created = new PlaceStatus();
+          created.setId(new PlaceStatusId(placeId, userId));
+          created.setPlace(place);
+          created.setUser(authService.getUserOrThrow(userId));
+          created.setStatus(place.getStatus());
+          return created;
+        });
+    if (request.status() != null) {
+      userState.setStatus(request.status());
+    }
+    if (request.favorite() != null) {
+      userState.setFavorite(request.favorite());
+    }
+    userState.setUpdatedAt(Instant.now());
+    PlaceStatus saved = placeStatusRepository.save(userState);
+    eventPublisher.publishEvent(new UserPlacesChangedEvent(userId));
+    return PlaceMapper.toResponse(place, saved);
+  }
+
+  @Transactional
+  public void clearMyStatus(Long userId, Long placeId) {
+    getPlaceForMember(placeId, userId);
+    placeStatusRepository.findByPlace_IdAndUser_Id(placeId, userId)
+        .ifPresent(placeStatusRepository::delete);
+    eventPublisher.publishEvent(new UserPlacesChangedEvent(userId));
   }
 
   @Transactional
@@ -109,13 +270,22 @@ public class PlaceService {
       place.setCategory(getCategoryOrThrow(request.categoryId()));
     }
     Place saved = placeRepository.save(place);
-    return toResponse(saved);
+    publishPlaceChange(GroupChangeType.PLACE_UPDATED, userId, toResponse(saved));
+    return PlaceMapper.toResponse(saved, placeStatusRepository.findByPlace_IdAndUser_Id(placeId, userId).orElse(null));
   }
 
   @Transactional
   public void deletePlace(Long userId, Long placeId) {
     Place place = getPlaceForMember(placeId, userId);
+    Long groupId = place.getGroup().getId();
     placeRepository.delete(place);
+    eventPublisher.publishEvent(new GroupChangeEvent(
+        GroupChangeType.PLACE_DELETED, groupId, placeId, null, userId, null));
+  }
+
+  private void publishPlaceChange(GroupChangeType type, Long userId, PlaceResponse place) {
+    eventPublisher.publishEvent(new GroupChangeEvent(
+        type, place.groupId(), place.id(), null, userId, place));
   }
 
   private Place getPlaceForMember(Long placeId, Long userId) {
@@ -125,33 +295,36 @@ public class PlaceService {
     return place;
   }
 
+  private Map<Long, PlaceStatus> loadUserStates(Long userId, List<Long> placeIds) {
+    if (placeIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, PlaceStatus> byPlaceId = new HashMap<>();
+    for (int from = 0; from < placeIds.size(); from += USER_STATE_BATCH_SIZE) {
+      List<Long> batch = placeIds.subList(from, Math.min(from + USER_STATE_BATCH_SIZE, placeIds.size()));
+      for (PlaceStatus state : placeStatusRepository.findByUser_IdAndPlace_IdIn(userId, batch)) {
+        byPlaceId.put(state.getId().getPlaceId(), state);
+      }
+    }
+    return byPlaceId;
+  }
+
   private PlaceResponse toResponse(Place place) {
-    UserSummary createdBy = new UserSummary(
-        place.getCreatedBy().getId(),
-        place.getCreatedBy().getName());
-    CategorySummary category = place.getCategory() != null
-        ? new CategorySummary(
-            place.getCategory().getId(),
-            place.getCategory().getName(),
-            place.getCategory().getIcon())
-        : null;
-    return new PlaceResponse(
-        place.getId(),
-        place.getGroup().getId(),
-        place.getName(),
-        place.getLat(),
-        place.getLng(),
-        place.getStatus(),
-        place.getNotes(),
-        place.getAddress(),
-        category,
-        createdBy,
-        place.getCreatedAt(),
-        place.getVisitedAt()
-    );
-  }
-
-  private PlaceVisitStatus parseStatus(String value) {
+    return PlaceMapper.toResponse(place, null);
+  }
+
+  private List<String> searchTerms(String query) {
+    if (!StringUtils.hasText(query)) {
+      return List.of();
+    }
+    return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+        .filter(StringUtils::hasText)
+        .distinct()
+        .limit(SEARCH_MAX_TERMS)
+        .toList();
+  }
+
+  static PlaceVisitStatus parseStatus(String value) {
     if (!StringUtils.hasText(value) || value.equalsIgnoreCase("ALL")) {
       return null;
     }
@@ -162,41 +335,8 @@ public class PlaceService {
     }
   }
 
-  private BoundingBox parseBoundingBox(String value) {
-    if (!StringUtils.hasText(value)) {
-      return null;
-    }
-    String[] parts = value.split(",");
-    if (parts.length != 4) {
-      throw new ApiException(HttpStatus.BAD_REQUEST, "Formato de bbox invalido");
-    }
-    try {
-      double minLng = Double.parseDouble(parts[0]);
-      double minLat = Double.parseDouble(parts[1]);
-      double maxLng = Double.parseDouble(parts[2]);
-      double maxLat = Double.parseDouble(parts[3]);
-      return new BoundingBox(minLat, maxLat, minLng, maxLng);
-    } catch (NumberFormatException ex) {
-      throw new ApiException(HttpStatus.BAD_REQUEST, "Valores de bbox invalidos");
-    }
-  }
-
   private Category getCategoryOrThrow(Long categoryId) {
     return categoryRepository.findById(categoryId)
         .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST, "Categoria no encontrada"));
   }
-
-  private static class BoundingBox {
-    private final double minLat;
-    private final double maxLat;
-    private final double minLng;
-    private final double maxLng;
-
-    private BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
-      this.minLat = minLat;
-      this.maxLat = maxLat;
-      this.minLng = minLng;
-      this.maxLng = maxLng;
-    }
-  }
 }
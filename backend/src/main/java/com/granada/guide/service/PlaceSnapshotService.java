@@ -0,0 +1,510 @@
+package com.granada.guide.service;
+
+import com.granada.guide.dto.CommonDtos.CategorySummary;
+import com.granada.guide.dto.CommonDtos.UserSummary;
+import com.granada.guide.dto.PlaceDtos.NearbyPlace;
+import com.granada.guide.dto.PlaceDtos.PlaceCluster;
+import com.granada.guide.dto.PlaceDtos.PlaceMarker;
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.entity.Place;
+import com.granada.guide.entity.PlaceStatus;
+import com.granada.guide.entity.PlaceVisitStatus;
+import com.granada.guide.event.GroupChangeEvent;
+import com.granada.guide.exception.ApiException;
+import com.granada.guide.repository.PlaceRepository;
+import com.granada.guide.util.GeoUtils;
+import com.granada.guide.util.GeoUtils.BoundingBox;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class PlaceSnapshotService {
+  private static final PlaceVisitStatus[] STATUSES = PlaceVisitStatus.values();
+  private static final int CLUSTER_CELL_PIXELS = 64;
+  private static final int TILE_PIXELS = 256;
+  private static final int MAX_CLUSTER_CELLS_PER_AXIS = 128;
+  private static final int MAX_ZOOM = 22;
+  private static final double NEARBY_DEFAULT_RADIUS = 1000;
+  private static final double NEARBY_MAX_RADIUS = 50_000;
+  private static final int NEARBY_DEFAULT_LIMIT = 20;
+  private static final int NEARBY_MAX_LIMIT = 200;
+  private static final int NEARBY_SCRATCH_POOL = 32;
+  private static final int NEARBY_SCRATCH_MAX_RETAINED = 65_536;
+
+  private final PlaceRepository placeRepository;
+  private final GroupService groupService;
+  private final PrimaryReader primaryReader;
+  private final Timer loadTimer;
+  private final Map<Long, GroupHolder> groups;
+  private final AtomicLong versions = new AtomicLong();
+  private final BlockingQueue<NearbyScratch> nearbyScratch = new ArrayBlockingQueue<>(NEARBY_SCRATCH_POOL);
+
+  public PlaceSnapshotService(PlaceRepository placeRepository,
+      GroupService groupService,
+      PrimaryReader primaryReader,
+      MeterRegistry meterRegistry,
+      @Value("${app.places.snapshot.max-groups:10000}") long maxGroups,
+      @Value("${app.places.snapshot.expire-after-access-minutes:60}") long expireMinutes) {
+    this.placeRepository = placeRepository;
+    this.groupService = groupService;
+    this.primaryReader = primaryReader;
+    this.groups = Caffeine.newBuilder()
+        .maximumSize(maxGroups)
+        .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+        .<Long, GroupHolder>build()
+        .asMap();
+    this.loadTimer = Timer.builder("places.snapshot.load").register(meterRegistry);
+    Gauge.builder("places.snapshot.rows", this, PlaceSnapshotService::rowCount)
+        .register(meterRegistry);
+    Gauge.builder("places.snapshot.groups", groups, Map::size)
+        .register(meterRegistry);
+  }
+
+  public GroupPlaces forGroup(Long groupId) {
+    GroupHolder holder = groups.computeIfAbsent(groupId, id -> new GroupHolder());
+    GroupPlaces snapshot = holder.snapshot;
+    if (snapshot != null) {
+      return snapshot;
+    }
+    holder.lock.lock();
+    try {
+      if (holder.snapshot == null) {
+        holder.snapshot = load(groupId, versions.incrementAndGet());
+      }
+      return holder.snapshot;
+    } finally {
+      holder.lock.unlock();
+    }
+  }
+
+  public void reload(Long groupId) {
+    GroupHolder holder = groups.get(groupId);
+    if (holder == null) {
+      return;
+    }
+    holder.lock.lock();
+    try {
+      GroupPlaces current = holder.snapshot;
+      if (current != null) {
+        holder.snapshot = load(groupId, versions.incrementAndGet());
+      }
+    } finally {
+      holder.lock.unlock();
+    }
+  }
+
+  public void reloadAll() {
+    for (Long groupId : groups.keySet()) {
+      reload(groupId);
+    }
+  }
+
+  public long getVersion(Long groupId) {
+    return forGroup(groupId).version;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onGroupChange(GroupChangeEvent event) {
+    switch (event.type()) {
+      case PLACE_CREATED, PLACE_UPDATED -> {
+        if (event.place() != null) {
+          apply(event.groupId(), event.placeId(), Row.of(event.place()));
+        }
+      }
+      case PLACE_DELETED -> apply(event.groupId(), event.placeId(), null);
+      default -> {
+      }
+    }
+  }
+
+  public List<PlaceMarker> markers(Long userId, String bboxValue, String statusValue) {
+    BoundingBox bbox = PlaceMapper.parseBoundingBox(bboxValue);
+    PlaceVisitStatus status = PlaceService.parseStatus(statusValue);
+    List<PlaceMarker> markers = new ArrayList<>();
+    for (Long groupId : groupService.getGroupIdsForUser(userId)) {
+      GroupPlaces places = forGroup(groupId);
+      for (int i = 0; i < places.size(); i++) {
+        if (places.matches(i, bbox, status)) {
+          markers.add(places.toMarker(i));
+        }
+      }
+    }
+    return markers;
+  }
+
+  public List<PlaceCluster> clusters(Long userId, String bboxValue, Integer zoomValue, String statusValue) {
+    BoundingBox bbox = PlaceMapper.parseBoundingBox(bboxValue);
+    if (bbox == null || zoomValue == null) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, "bbox y zoom son obligatorios");
+    }
+    PlaceVisitStatus status = PlaceService.parseStatus(statusValue);
+    int zoom = Math.max(0, Math.min(zoomValue, MAX_ZOOM));
+    double cellLng = 360.0 / ((1L << zoom) * (double) (TILE_PIXELS / CLUSTER_CELL_PIXELS));
+    double cellLat = cellLng * Math.cos(Math.toRadians((bbox.minLat() + bbox.maxLat()) / 2));
+    double width = Math.max(bbox.maxLng() - bbox.minLng(), 1e-9);
+    double height = Math.max(bbox.maxLat() - bbox.minLat(), 1e-9);
+    cellLng = Math.max(cellLng, width / MAX_CLUSTER_CELLS_PER_AXIS);
+    cellLat = Math.max(cellLat, height / MAX_CLUSTER_CELLS_PER_AXIS);
+    int cols = (int) Math.ceil(width / cellLng);
+    int rows = (int) Math.ceil(height / cellLat);
+
+    int[] counts = new int[cols * rows];
+    double[] sumLat = new double[counts.length];
+    double[] sumLng = new double[counts.length];
+    long[] firstId = new long[counts.length];
+    for (Long groupId : groupService.getGroupIdsForUser(userId)) {
+      GroupPlaces places = forGroup(groupId);
+      for (int i = 0; i < places.size(); i++) {
+        if (!places.matches(i, bbox, status)) {
+          continue;
+        }
+        int col = Math.min(cols - 1, (int) ((places.lng[i] - bbox.minLng()) / cellLng));
+        int row = Math.min(rows - 1, (int) ((places.lat[i] - bbox.minLat()) / cellLat));
+        int cell = row * cols + col;
+        if (counts[cell]++ == 0) {
+          firstId[cell] = places.ids[i];
+        }
+        sumLat[cell] += places.lat[i];
+        sumLng[cell] += places.lng[i];
+      }
+    }
+    List<PlaceCluster> clusters = new ArrayList<>();
+    for (int cell = 0; cell < counts.length; cell++) {
+      int count = counts[cell];
+      if (count > 0) {
+        clusters.add(new PlaceCluster(sumLat[cell] / count, sumLng[cell] / count, count,
+            count == 1 ? firstId[cell] : null));
+      }
+    }
+    return clusters;
+  }
+
+  public List<NearbyPlace> nearby(Long userId, Double lat, Double lng, Double radiusValue,
+      Integer limitValue, String statusValue) {
+    if (lat == null || lng == null) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, "lat y lng son obligatorios");
+    }
+    double radius = radiusValue == null ? NEARBY_DEFAULT_RADIUS
+        : Math.max(1, Math.min(radiusValue, NEARBY_MAX_RADIUS));
+    int limit = limitValue == null ? NEARBY_DEFAULT_LIMIT : Math.max(1, Math.min(limitValue, NEARBY_MAX_LIMIT));
+    PlaceVisitStatus status = PlaceService.parseStatus(statusValue);
+
+    List<NearbyPlace> nearby = new ArrayList<>();
+    NearbyScratch scratch = nearbyScratch.poll();
+    if (scratch == null) {
+      scratch = new NearbyScratch();
+    }
+    try {
+      for (Long groupId : groupService.getGroupIdsForUser(userId)) {
+        GroupPlaces places = forGroup(groupId);
+        scratch.ensureCapacity(places.size());
+        int found = GeoUtils.withinRadius(lat, lng, places.lat, places.lng, places.size(), radius,
+            scratch.indexes, scratch.distances);
+        for (int i = 0; i < found; i++) {
+          int row = scratch.indexes[i];
+          if (status == null || places.status[row] == status.ordinal()) {
+            nearby.add(places.toNearby(row, scratch.distances[i]));
+          }
+        }
+      }
+    } finally {
+      if (scratch.indexes.length <= NEARBY_SCRATCH_MAX_RETAINED) {
+        nearbyScratch.offer(scratch);
+      }
+    }
+    nearby.sort((a, b) -> Double.compare(a.distanceMeters(), b.distanceMeters()));
+    return nearby.size() > limit ? List.copyOf(nearby.subList(0, limit)) : nearby;
+  }
+
+  private void apply(Long groupId, Long placeId, Row row) {
+    GroupHolder holder = groups.get(groupId);
+    if (holder == null) {
+      return;
+    }
+    holder.lock.lock();
+    try {
+      GroupPlaces current = holder.snapshot;
+      if (current != null) {
+        holder.snapshot = current.with(placeId, row, versions.incrementAndGet());
+      }
+    } finally {
+      holder.lock.unlock();
+    }
+  }
+
+  private GroupPlaces load(Long groupId, long version) {
+    return loadTimer.record(() -> GroupPlaces.of(groupId, version,
+        primaryReader.read(() -> placeRepository.findByGroup_Id(groupId).stream().map(Row::of).toList())));
+  }
+
+  private double rowCount() {
+    long rows = 0;
+    for (GroupHolder holder : groups.values()) {
+      GroupPlaces snapshot = holder.snapshot;
+      if (snapshot != null) {
+        rows += snapshot.size();
+      }
+    }
+    return rows;
+  }
+
+  private static final class GroupHolder {
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile GroupPlaces snapshot;
+  }
+
+  private static final class NearbyScratch {
+    private int[] indexes = new int[0];
+    private double[] distances = new double[0];
+
+    private void ensureCapacity(int size) {
+      if (indexes.length < size) {
+        indexes = new int[size];
+        distances = new double[size];
+      }
+    }
+  }
+
+  private record Row(long id, String name, double lat, double lng, PlaceVisitStatus status,
+      String notes, String address, CategorySummary category, UserSummary createdBy,
+      Instant createdAt, Instant visitedAt) {
+
+    private static Row of(Place place) {
+      CategorySummary category = place.getCategory() != null
+          ? new CategorySummary(place.getCategory().getId(), place.getCategory().getName(),
+              place.getCategory().getIcon())
+          : null;
+      return new Row(place.getId(), place.getName(), place.getLat(), place.getLng(), place.getStatus(),
+          place.getNotes(), place.getAddress(), category,
+          new UserSummary(place.getCreatedBy().getId(), place.getCreatedBy().getName()),
+          place.getCreatedAt(), place.getVisitedAt());
+    }
+
+    private static Row of(PlaceResponse place) {
+      return new Row(place.id(), place.name(), place.lat(), place.lng(), place.status(),
+          place.notes(), place.address(), place.category(), place.createdBy(),
+          place.createdAt(), place.visitedAt());
+    }
+  }
+
+  public static final class GroupPlaces {
+    private final long groupId;
+    private final long version;
+    private final long[] ids;
+    private final double[] lat;
+    private final double[] lng;
+    private final byte[] status;
+    private final int[] categoryIdx;
+    private final CategorySummary[] categories;
+    private final int[] createdByIdx;
+    private final UserSummary[] users;
+    private final String[] names;
+    private final String[] notes;
+    private final String[] addresses;
+    private final Instant[] createdAt;
+    private final Instant[] visitedAt;
+
+    private GroupPlaces(long groupId, long version, int size, CategorySummary[] categories, UserSummary[] users) {
+      this.groupId = groupId;
+      this.version = version;
+      this.ids = new long[size];
+      this.lat = new double[size];
+      this.lng = new double[size];
+      this.status = new byte[size];
+      this.categoryIdx = new int[size];
+      this.categories = categories;
+      this.createdByIdx = new int[size];
+      this.users = users;
+      this.names = new String[size];
+      this.notes = new String[size];
+      this.addresses = new String[size];
+      this.createdAt = new Instant[size];
+      this.visitedAt = new Instant[size];
+    }
+
+    private static GroupPlaces of(long groupId, long version, List<Row> unsorted) {
+      Row[] rows = unsorted.toArray(new Row[0]);
+      Arrays.sort(rows, (a, b) -> Long.compare(a.id, b.id));
+      Map<Long, Integer> categoryIndex = new HashMap<>();
+      Map<Long, Integer> userIndex = new HashMap<>();
+      List<CategorySummary> categoryList = new ArrayList<>();
+      List<UserSummary> userList = new ArrayList<>();
+      Map<String, String> strings = new HashMap<>();
+      int[] categoryOf = new int[rows.length];
+      int[] userOf = new int[rows.length];
+      for (int i = 0; i < rows.length; i++) {
+        CategorySummary category = rows[i].category;
+        categoryOf[i] = category == null ? -1 : categoryIndex.computeIfAbsent(category.id(), id -> {
+          categoryList.add(category);
+          return categoryList.size() - 1;
+        });
+        UserSummary user = rows[i].createdBy;
+        userOf[i] = userIndex.computeIfAbsent(user.id(), id -> {
+          userList.add(user);
+          return userList.size() - 1;
+        });
+      }
+      GroupPlaces places = new GroupPlaces(groupId, version, rows.length,
+          categoryList.toArray(new CategorySummary[0]), userList.toArray(new UserSummary[0]));
+      for (int i = 0; i < rows.length; i++) {
+        Row row = rows[i];
+        places.set(i, row, categoryOf[i], userOf[i]);
+        places.names[i] = dedupe(strings, row.name);
+        places.addresses[i] = dedupe(strings, row.address);
+      }
+      return places;
+    }
+
+    public int size() {
+      return ids.length;
+    }
+
+    public long version() {
+      return version;
+    }
+
+    public int indexOf(long placeId) {
+      int row = Arrays.binarySearch(ids, placeId);
+      return row < 0 ? -1 : row;
+    }
+
+    public long id(int row) {
+      return ids[row];
+    }
+
+    public boolean matches(int row, BoundingBox bbox, PlaceVisitStatus filter) {
+      if (filter != null && status[row] != filter.ordinal()) {
+        return false;
+      }
+      return bbox == null
+          || (lat[row] >= bbox.minLat() && lat[row] <= bbox.maxLat()
+              && lng[row] >= bbox.minLng() && lng[row] <= bbox.maxLng());
+    }
+
+    public PlaceResponse toResponse(int row, PlaceStatus userState) {
+      return new PlaceResponse(
+          ids[row],
+          groupId,
+          names[row],
+          lat[row],
+          lng[row],
+          STATUSES[status[row]],
+          notes[row],
+          addresses[row],
+          categoryIdx[row] < 0 ? null : categories[categoryIdx[row]],
+          users[createdByIdx[row]],
+          createdAt[row],
+          visitedAt[row],
+          userState != null ? userState.getStatus() : null,
+          userState != null && userState.isFavorite()
+      );
+    }
+
+    private PlaceMarker toMarker(int row) {
+      return new PlaceMarker(ids[row], groupId, names[row], lat[row], lng[row], STATUSES[status[row]],
+          categoryIdx[row] < 0 ? null : categories[categoryIdx[row]].id());
+    }
+
+    private NearbyPlace toNearby(int row, double distanceMeters) {
+      return new NearbyPlace(ids[row], groupId, names[row], lat[row], lng[row], STATUSES[status[row]],
+          categoryIdx[row] < 0 ? null : categories[categoryIdx[row]].id(), distanceMeters);
+    }
+
+    private GroupPlaces with(long placeId, Row replacement, long nextVersion) {
+      int found = Arrays.binarySearch(ids, placeId);
+      if (found < 0 && replacement == null) {
+        return this;
+      }
+      int slot = found >= 0 ? found : -(found + 1);
+      int tail = found >= 0 ? slot + 1 : slot;
+      int size = ids.length - (found >= 0 ? 1 : 0) + (replacement != null ? 1 : 0);
+      CategorySummary[] nextCategories = categories;
+      UserSummary[] nextUsers = users;
+      int categoryRef = -1;
+      int userRef = -1;
+      if (replacement != null) {
+        if (replacement.category != null) {
+          categoryRef = indexOf(categories, replacement.category);
+          if (categoryRef < 0) {
+            categoryRef = categories.length;
+            nextCategories = Arrays.copyOf(categories, categories.length + 1);
+            nextCategories[categoryRef] = replacement.category;
+          }
+        }
+        userRef = indexOf(users, replacement.createdBy);
+        if (userRef < 0) {
+          userRef = users.length;
+          nextUsers = Arrays.copyOf(users, users.length + 1);
+          nextUsers[userRef] = replacement.createdBy;
+        }
+      }
+      GroupPlaces next = new GroupPlaces(groupId, nextVersion, size, nextCategories, nextUsers);
+      copyRows(0, next, 0, slot);
+      int target = slot;
+      if (replacement != null) {
+        next.set(target++, replacement, categoryRef, userRef);
+      }
+      copyRows(tail, next, target, ids.length - tail);
+      return next;
+    }
+
+    private void set(int row, Row value, int categoryRef, int userRef) {
+      ids[row] = value.id;
+      lat[row] = value.lat;
+      lng[row] = value.lng;
+      status[row] = (byte) value.status.ordinal();
+      categoryIdx[row] = categoryRef;
+      createdByIdx[row] = userRef;
+      names[row] = value.name;
+      notes[row] = value.notes;
+      addresses[row] = value.address;
+      createdAt[row] = value.createdAt;
+      visitedAt[row] = value.visitedAt;
+    }
+
+    private void copyRows(int from, GroupPlaces target, int to, int length) {
+      System.arraycopy(ids, from, target.ids, to, length);
+      System.arraycopy(lat, from, target.lat, to, length);
+      System.arraycopy(lng, from, target.lng, to, length);
+      System.arraycopy(status, from, target.status, to, length);
+      System.arraycopy(categoryIdx, from, target.categoryIdx, to, length);
+      System.arraycopy(createdByIdx, from, target.createdByIdx, to, length);
+      System.arraycopy(names, from, target.names, to, length);
+      System.arraycopy(notes, from, target.notes, to, length);
+      System.arraycopy(addresses, from, target.addresses, to, length);
+      System.arraycopy(createdAt, from, target.createdAt, to, length);
+      System.arraycopy(visitedAt, from, target.visitedAt, to, length);
+    }
+
+    private static <T> int indexOf(T[] dictionary, T value) {
+      for (int i = 0; i < dictionary.length; i++) {
+        if (dictionary[i].equals(value)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private static String dedupe(Map<String, String> strings, String value) {
+      return value == null ? null : strings.computeIfAbsent(value, key -> key);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.granada.guide.service;
+
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class PrimaryReader {
+  private final boolean replicaEnabled;
+  private final TransactionTemplate joinOrBegin;
+  private final TransactionTemplate beginNew;
+
+  public PrimaryReader(PlatformTransactionManager transactionManager,
+      @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled) {
+    this.replicaEnabled = replicaEnabled;
+    this.joinOrBegin = new TransactionTemplate(transactionManager);
+    this.beginNew = new TransactionTemplate(transactionManager);
+    this.beginNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  public <T> T read(Supplier<T> loader) {
+    if (!replicaEnabled) {
+      return loader.get();
+    }
+    boolean insideReadOnly = TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    return (insideReadOnly ? beginNew : joinOrBegin).execute(status -> loader.get());
+  }
+}
@@ -0,0 +1,107 @@
+package com.granada.guide.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class RequestCoalescer {
+  private static final int WRITE_STRIPES = 1024;
+
+  private final AtomicLongArray writeSequences = new AtomicLongArray(WRITE_STRIPES);
+  private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final TransactionTemplate readOnlyTransaction;
+  private final MeterRegistry meterRegistry;
+  private final long timeoutMillis;
+
+  public RequestCoalescer(PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.coalescing.timeout-ms:5000}") long timeoutMillis) {
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.meterRegistry = meterRegistry;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  public long writeSequence(String operation, Object id) {
+    return writeSequences.get(stripe(operation, id));
+  }
+
+  public void recordWrite(String operation, Object id) {
+    writeSequences.incrementAndGet(stripe(operation, id));
+  }
+
+  public <T> T executeReadOnly(Key key, Supplier<T> loader) {
+    return execute(key, () -> readOnlyTransaction.execute(status -> loader.get()));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Key key, Supplier<T> loader) {
+    CompletableFuture<Object> created = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+    if (existing == null) {
+      return lead(key, created, loader);
+    }
+    try {
+      T value = (T) existing.get(timeoutMillis, TimeUnit.MILLISECONDS);
+      count(key, "joined");
+      return value;
+    } catch (TimeoutException ex) {
+      count(key, "timeout");
+      return loader.get();
+    } catch (ExecutionException ex) {
+      count(key, "failed");
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrumpido esperando una consulta en curso", ex);
+    }
+  }
+
+  private <T> T lead(Key key, CompletableFuture<Object> future, Supplier<T> loader) {
+    T value;
+    try {
+      value = loader.get();
+    } catch (RuntimeException | Error ex) {
+      inFlight.remove(key, future);
+      future.completeExceptionally(ex);
+      throw ex;
+    }
+    inFlight.remove(key, future);
+    future.complete(value);
+    return value;
+  }
+
+  private static int stripe(String operation, Object id) {
+    return Math.floorMod(Objects.hash(operation, id), WRITE_STRIPES);
+  }
+
+  private void count(Key key, String result) {
+    meterRegistry.counter("requests.coalesced", "operation", key.operation(), "result", result).increment();
+  }
+
+  public record Key(String operation, List<Object> parameters) {
+    public static Key of(String operation, Object... parameters) {
+      return new Key(operation, Arrays.asList(parameters.clone()));
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package com.granada.guide.service;
+
+import com.granada.guide.dto.PhotoDtos.CreateUploadRequest;
+import com.granada.guide.dto.PhotoDtos.PhotoResponse;
+import com.granada.guide.dto.PhotoDtos.UploadResponse;
+import com.granada.guide.entity.Place;
+import com.granada.guide.entity.UploadSession;
+import com.granada.guide.exception.ApiException;
+import com.granada.guide.repository.PlaceRepository;
+import com.granada.guide.repository.UploadSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ResumableUploadService {
+  private static final Logger log = LoggerFactory.getLogger(ResumableUploadService.class);
+
+  private final UploadSessionRepository uploadSessionRepository;
+  private final PlaceRepository placeRepository;
+  private final GroupService groupService;
+  private final PhotoService photoService;
+  private final FileStorageService fileStorageService;
+  private final PrimaryReader primaryReader;
+  private final MeterRegistry meterRegistry;
+  private final long maxBytes;
+  private final Duration ttl;
+  private final long cleanupIntervalMinutes;
+  private final Set<String> writing = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("upload-sessions").daemon().factory());
+
+  public ResumableUploadService(UploadSessionRepository uploadSessionRepository,
+      PlaceRepository placeRepository,
+      GroupService groupService,
+      PhotoService photoService,
+      FileStorageService fileStorageService,
+      PrimaryReader primaryReader,
+      MeterRegistry meterRegistry,
+      @Value("${app.upload.sessions.max-bytes:20971520}") long maxBytes,
+      @Value("${app.upload.sessions.ttl-hours:24}") long ttlHours,
+      @Value("${app.upload.sessions.cleanup-interval-minutes:15}") long cleanupIntervalMinutes) {
+    this.uploadSessionRepository = uploadSessionRepository;
+    this.placeRepository = placeRepository;
+    this.groupService = groupService;
+    this.photoService = photoService;
+    this.fileStorageService = fileStorageService;
+    this.primaryReader = primaryReader;
+    this.meterRegistry = meterRegistry;
+    this.maxBytes = maxBytes;
+    this.ttl = Duration.ofHours(ttlHours);
+    this.cleanupIntervalMinutes = cleanupIntervalMinutes;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    cleaner.scheduleWithFixedDelay(this::expireSafely, cleanupIntervalMinutes, cleanupIntervalMinutes,
+        TimeUnit.MINUTES);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    cleaner.shutdownNow();
+  }
+
+  @Transactional
+  public UploadResponse create(Long userId, Long placeId, CreateUploadRequest request) {
+    if (request.length() > maxBytes) {
+      throw new ApiException(HttpStatus.PAYLOAD_TOO_LARGE, "El archivo supera el tamano maximo");
+    }
+    getPlaceForMember(placeId, userId);
+    UploadSession session = new UploadSession();
+    session.setId(UUID.randomUUID().toString().replace("-", ""));
+    session.setUserId(userId);
+    session.setPlaceId(placeId);
+    session.setExtension(fileStorageService.extensionOf(request.filename()));
+    session.setCaption(request.caption());
+    session.setLength(request.length());
+    session.setExpiresAt(Instant.now().plus(ttl));
+    uploadSessionRepository.save(session);
+    fileStorageService.allocatePartial(session.getId(), session.getLength());
+    count("created");
+    return toResponse(session);
+  }
+
+  public UploadResponse status(Long userId, String uploadId) {
+    return toResponse(getSessionForOwner(uploadId, userId));
+  }
+
+  public UploadResponse append(Long userId, String uploadId, long offset, InputStream body) {
+    UploadSession session = getSessionForOwner(uploadId, userId);
+    if (offset != session.getOffset()) {
+      throw new ApiException(HttpStatus.CONFLICT, "El desplazamiento no coincide con el de la subida");
+    }
+    if (!writing.add(uploadId)) {
+      throw new ApiException(HttpStatus.CONFLICT, "Ya hay un fragmento en curso para esta subida");
+    }
+    try {
+      long written = fileStorageService.writePartial(uploadId, offset, session.getLength() - offset, body);
+      Instant expiresAt = Instant.now().plus(ttl);
+      if (uploadSessionRepository.advance(uploadId, offset, offset + written, expiresAt) == 0) {
+        throw new ApiException(HttpStatus.CONFLICT, "El desplazamiento no coincide con el de la subida");
+      }
+      session.setOffset(offset + written);
+      session.setExpiresAt(expiresAt);
+      return toResponse(session);
+    } finally {
+      writing.remove(uploadId);
+    }
+  }
+
+  @Transactional
+  public PhotoResponse complete(Long userId, String uploadId) {
+    UploadSession session = getSessionForOwner(uploadId, userId);
+    if (session.getOffset() != session.getLength()) {
+      throw new ApiException(HttpStatus.CONFLICT, "La subida no esta completa");
+    }
+    getPlaceForMember(session.getPlaceId(), userId);
+    uploadSessionRepository.delete(session);
+    String url = fileStorageService.promotePartial(uploadId, session.getPlaceId(), session.getExtension());
+    count("completed");
+    return photoService.register(userId, session.getPlaceId(), url, session.getCaption());
+  }
+
+  @Transactional
+  public void abort(Long userId, String uploadId) {
+    UploadSession session = getSessionForOwner(uploadId, userId);
+    uploadSessionRepository.delete(session);
+    fileStorageService.deletePartial(uploadId);
+    count("aborted");
+  }
+
+  private void expireSafely() {
+    try {
+      expire();
+    } catch (RuntimeException | IOException ex) {
+      log.warn("No se pudieron caducar las subidas pendientes: {}", ex.getMessage());
+    }
+  }
+
+  void expire() throws IOException {
+    Instant now = Instant.now();
+    for (String id : uploadSessionRepository.findExpiredIds(now)) {
+      if (!writing.contains(id) && uploadSessionRepository.deleteExpired(id, now) > 0) {
+        fileStorageService.deletePartial(id);
+        count("expired");
+      }
+    }
+    Path partialDir = fileStorageService.uploadRoot().resolve(FileStorageService.PARTIAL_DIR);
+    if (!Files.isDirectory(partialDir)) {
+      return;
+    }
+    Instant cutoff = now.minus(ttl);
+    try (Stream<Path> files = Files.list(partialDir)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(".part") && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)
+            && !uploadSessionRepository.existsById(name.substring(0, name.length() - ".part".length()))) {
+          Files.deleteIfExists(file);
+          count("expired");
+        }
+      }
+    }
+  }
+
+  private UploadSession getSessionForOwner(String uploadId, Long userId) {
+    return primaryReader.read(() -> uploadSessionRepository.findById(uploadId))
+        .filter(session -> session.getUserId().equals(userId))
+        .filter(session -> session.getExpiresAt().isAfter(Instant.now()))
+        .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Subida no encontrada"));
+  }
+
+  private Place getPlaceForMember(Long placeId, Long userId) {
+    Place place = placeRepository.findById(placeId)
+        .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Sitio no encontrado"));
+    groupService.getGroupForMember(place.getGroup().getId(), userId);
+    return place;
+  }
+
+  private void count(String result) {
+    meterRegistry.counter("uploads.sessions", "result", result).increment();
+  }
+
+  private UploadResponse toResponse(UploadSession session) {
+    return new UploadResponse(session.getId(), session.getOffset(), session.getLength(), session.getExpiresAt());
+  }
+}
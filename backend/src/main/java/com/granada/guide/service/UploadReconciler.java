@@ -0,0 +1,367 @@
+package com.granada.guide.service;
+
+import com.granada.guide.repository.PhotoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "uploadgc")
+public class UploadReconciler {
+  private static final Logger log = LoggerFactory.getLogger(UploadReconciler.class);
+  private static final Pattern PLACE_DIR = Pattern.compile("place-(\\d+)");
+  private static final String CHECKPOINT_FILE = ".reconcile-checkpoint";
+  private static final String QUARANTINE_DIR = ".quarantine";
+
+  private final FileStorageService fileStorageService;
+  private final PhotoRepository photoRepository;
+  private final Path uploadRoot;
+  private final boolean enabled;
+  private final Mode mode;
+  private final long intervalMinutes;
+  private final Duration grace;
+  private final Duration quarantineRetention;
+  private final int dirsPerRun;
+  private final long nanosPerFile;
+  private final Counter scannedFiles;
+  private final Counter orphanFiles;
+  private final Counter reclaimedBytes;
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("upload-reconciler").daemon().factory());
+  private long nextSlot;
+  private volatile Report lastReport;
+
+  public UploadReconciler(FileStorageService fileStorageService,
+      PhotoRepository photoRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.upload.gc.enabled:true}") boolean enabled,
+      @Value("${app.upload.gc.mode:quarantine}") String mode,
+      @Value("${app.upload.gc.interval-minutes:60}") long intervalMinutes,
+      @Value("${app.upload.gc.grace-hours:24}") long graceHours,
+      @Value("${app.upload.gc.quarantine-days:7}") long quarantineDays,
+      @Value("${app.upload.gc.dirs-per-run:500}") int dirsPerRun,
+      @Value("${app.upload.gc.max-files-per-second:200}") int maxFilesPerSecond) {
+    this.fileStorageService = fileStorageService;
+    this.photoRepository = photoRepository;
+    this.uploadRoot = fileStorageService.uploadRoot();
+    this.enabled = enabled;
+    this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+    this.intervalMinutes = intervalMinutes;
+    this.grace = Duration.ofHours(graceHours);
+    this.quarantineRetention = Duration.ofDays(quarantineDays);
+    this.dirsPerRun = dirsPerRun;
+    this.nanosPerFile = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxFilesPerSecond);
+    this.scannedFiles = meterRegistry.counter("uploads.gc.files", "result", "scanned");
+    this.orphanFiles = meterRegistry.counter("uploads.gc.files", "result", "orphan");
+    this.reclaimedBytes = Counter.builder("uploads.gc.reclaimed").baseUnit("bytes").register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (enabled) {
+      executor.scheduleWithFixedDelay(this::runSafely, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @ReadOperation
+  public Report report() {
+    return lastReport;
+  }
+
+  private void runSafely() {
+    try {
+      lastReport = run();
+      log.info("Reconciliacion de subidas: {}", lastReport);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (IOException | RuntimeException ex) {
+      log.warn("Fallo en la reconciliacion de subidas: {}", ex.getMessage());
+    }
+  }
+
+  Report run() throws IOException, InterruptedException {
+    Instant startedAt = Instant.now();
+    RunStats stats = new RunStats();
+    if (!Files.isDirectory(uploadRoot)) {
+      return stats.toReport(mode, startedAt, null, false);
+    }
+    List<Path> dirs = placeDirectories();
+    String checkpoint = readCheckpoint();
+    int start = 0;
+    while (start < dirs.size() && dirs.get(start).getFileName().toString().compareTo(checkpoint) <= 0) {
+      start++;
+    }
+    int end = Math.min(dirs.size(), start + dirsPerRun);
+    for (int i = start; i < end; i++) {
+      Path dir = dirs.get(i);
+      reconcile(dir, stats);
+      stats.directories++;
+      writeCheckpoint(dir.getFileName().toString());
+    }
+    boolean passCompleted = end >= dirs.size();
+    if (passCompleted) {
+      writeCheckpoint("");
+      purgeQuarantine();
+    }
+    return stats.toReport(mode, startedAt, passCompleted ? null : dirs.get(end - 1).getFileName().toString(),
+        passCompleted);
+  }
+
+  private List<Path> placeDirectories() throws IOException {
+    try (Stream<Path> children = Files.list(uploadRoot)) {
+      return children
+          .filter(Files::isDirectory)
+          .filter(path -> PLACE_DIR.matcher(path.getFileName().toString()).matches())
+          .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+          .toList();
+    }
+  }
+
+  private void reconcile(Path dir, RunStats stats) throws IOException, InterruptedException {
+    Matcher matcher = PLACE_DIR.matcher(dir.getFileName().toString());
+    if (!matcher.matches()) {
+      return;
+    }
+    long placeId = Long.parseLong(matcher.group(1));
+    String prefix = "/uploads/" + dir.getFileName() + "/";
+    List<String> known = new ArrayList<>();
+    Set<String> knownThumbnails = new HashSet<>();
+    for (String url : photoRepository.findUrlsByPlaceId(placeId)) {
+      if (url != null && url.startsWith(prefix) && url.indexOf('/', prefix.length()) < 0) {
+        String name = url.substring(prefix.length());
+        known.add(name);
+        knownThumbnails.add(fileStorageService.thumbnailPath(dir.resolve(name)).getFileName().toString());
+      }
+    }
+    known.sort(null);
+
+    List<StoredFile> originals = new ArrayList<>();
+    List<StoredFile> thumbnails = new ArrayList<>();
+    Files.walkFileTree(dir, EnumSet.noneOf(FileVisitOption.class), 2, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes attrs) {
+        if (path.equals(dir) || path.getFileName().toString().equals(FileStorageService.THUMBNAIL_DIR)) {
+          return FileVisitResult.CONTINUE;
+        }
+        return FileVisitResult.SKIP_SUBTREE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
+        if (!attrs.isRegularFile() || path.getFileName().toString().startsWith(".")) {
+          return FileVisitResult.CONTINUE;
+        }
+        StoredFile file = new StoredFile(path, attrs.lastModifiedTime().toInstant(), attrs.size());
+        (path.getParent().equals(dir) ? originals : thumbnails).add(file);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFileFailed(Path path, IOException ex) {
+        return FileVisitResult.CONTINUE;
+      }
+    });
+    originals.sort(Comparator.comparing(file -> file.path().getFileName().toString()));
+
+    Instant cutoff = Instant.now().minus(grace);
+    int k = 0;
+    for (StoredFile file : originals) {
+      throttle();
+      stats.files++;
+      scannedFiles.increment();
+      String name = file.path().getFileName().toString();
+      while (k < known.size() && known.get(k).compareTo(name) < 0) {
+        k++;
+      }
+      boolean referenced = k < known.size() && known.get(k).equals(name);
+      if (!referenced && file.modifiedAt().isBefore(cutoff)) {
+        collect(file, stats);
+      }
+    }
+    for (StoredFile file : thumbnails) {
+      throttle();
+      stats.files++;
+      scannedFiles.increment();
+      if (!knownThumbnails.contains(file.path().getFileName().toString()) && file.modifiedAt().isBefore(cutoff)) {
+        collect(file, stats);
+      }
+    }
+    if (mode != Mode.REPORT) {
+      deleteIfEmpty(dir.resolve(FileStorageService.THUMBNAIL_DIR), cutoff);
+      deleteIfEmpty(dir, cutoff);
+    }
+  }
+
+  private void collect(StoredFile file, RunStats stats) throws IOException {
+    stats.orphans++;
+    stats.orphanBytes += file.size();
+    orphanFiles.increment();
+    try {
+      switch (mode) {
+        case DELETE -> Files.deleteIfExists(file.path());
+        case QUARANTINE -> {
+          Path target = uploadRoot.resolve(QUARANTINE_DIR)
+              .resolve(LocalDate.now(ZoneOffset.UTC).toString())
+              .resolve(uploadRoot.relativize(file.path()));
+          Files.createDirectories(target.getParent());
+          Files.move(file.path(), target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        case REPORT -> {
+          return;
+        }
+      }
+      reclaimedBytes.increment(file.size());
+    } catch (NoSuchFileException ex) {
+      stats.orphans--;
+      stats.orphanBytes -= file.size();
+    }
+  }
+
+  private void purgeQuarantine() throws IOException {
+    Path quarantine = uploadRoot.resolve(QUARANTINE_DIR);
+    if (!Files.isDirectory(quarantine)) {
+      return;
+    }
+    LocalDate oldest = LocalDate.now(ZoneOffset.UTC).minusDays(quarantineRetention.toDays());
+    List<Path> expired;
+    try (Stream<Path> days = Files.list(quarantine)) {
+      expired = days.filter(day -> {
+        try {
+          return LocalDate.parse(day.getFileName().toString()).isBefore(oldest);
+        } catch (DateTimeParseException ex) {
+          return false;
+        }
+      }).toList();
+    }
+    for (Path day : expired) {
+      deleteTree(day);
+    }
+  }
+
+  private void throttle() throws InterruptedException {
+    long now = System.nanoTime();
+    if (nextSlot - now > 0) {
+      TimeUnit.NANOSECONDS.sleep(nextSlot - now);
+      now = System.nanoTime();
+    }
+    nextSlot = Math.max(now, nextSlot) + nanosPerFile;
+  }
+
+  private String readCheckpoint() throws IOException {
+    Path file = uploadRoot.resolve(CHECKPOINT_FILE);
+    return Files.exists(file) ? Files.readString(file, StandardCharsets.UTF_8).trim() : "";
+  }
+
+  private void writeCheckpoint(String value) throws IOException {
+    Path file = uploadRoot.resolve(CHECKPOINT_FILE);
+    Path temp = uploadRoot.resolve(CHECKPOINT_FILE + ".tmp");
+    Files.writeString(temp, value, StandardCharsets.UTF_8);
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static void deleteIfEmpty(Path dir, Instant cutoff) throws IOException {
+    if (!Files.isDirectory(dir) || !Files.getLastModifiedTime(dir).toInstant().isBefore(cutoff)) {
+      return;
+    }
+    try (Stream<Path> children = Files.list(dir)) {
+      if (children.findAny().isPresent()) {
+        return;
+      }
+    }
+    try {
+      Files.deleteIfExists(dir);
+    } catch (DirectoryNotEmptyException ex) {
+      log.debug("Directorio {} ocupado durante la reconciliacion", dir);
+    }
+  }
+
+  private static void deleteTree(Path root) throws IOException {
+    Files.walkFileTree(root, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+        Files.deleteIfExists(file);
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult postVisitDirectory(Path dir, IOException ex) throws IOException {
+        Files.deleteIfExists(dir);
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  public enum Mode {
+    REPORT,
+    QUARANTINE,
+    DELETE
+  }
+
+  public record Report(
+      Mode mode,
+      Instant startedAt,
+      Instant finishedAt,
+      int directories,
+      long files,
+      long orphans,
+      long orphanBytes,
+      String checkpoint,
+      boolean passCompleted
+  ) {}
+
+  private record StoredFile(Path path, Instant modifiedAt, long size) {}
+
+  private static final class RunStats {
+    private int directories;
+    private long files;
+    private long orphans;
+    private long orphanBytes;
+
+    private Report toReport(Mode mode, Instant startedAt, String checkpoint, boolean passCompleted) {
+      return new Report(mode, startedAt, Instant.now(), directories, files, orphans, orphanBytes,
+          checkpoint, passCompleted);
+    }
+  }
+}
@@ -0,0 +1,229 @@
+package com.granada.guide.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.granada.guide.dto.PlaceDtos.PlaceResponse;
+import com.granada.guide.entity.User;
+import com.granada.guide.repository.UserRepository;
+import com.granada.guide.security.CustomUserDetailsService;
+import com.granada.guide.security.JwtTokenProvider;
+import com.granada.guide.security.UserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+@Service
+public class WarmupService {
+  private static final Logger log = LoggerFactory.getLogger(WarmupService.class);
+  private static final int TAIL_ROUNDS = 20;
+
+  private final List<DataSource> dataSources;
+  private final UserRepository userRepository;
+  private final CustomUserDetailsService userDetailsService;
+  private final JwtTokenProvider tokenProvider;
+  private final PlaceService placeService;
+  private final PlaceListCache placeListCache;
+  private final PlaceSnapshotService placeSnapshotService;
+  private final CategoryService categoryService;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final int sampleUsers;
+  private final int maxRounds;
+  private final Duration maxDuration;
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+      Thread.ofPlatform().name("warmup").daemon().factory());
+  private volatile int rounds;
+  private volatile Report report;
+
+  public WarmupService(List<DataSource> dataSources,
+      UserRepository userRepository,
+      CustomUserDetailsService userDetailsService,
+      JwtTokenProvider tokenProvider,
+      PlaceService placeService,
+      PlaceListCache placeListCache,
+      PlaceSnapshotService placeSnapshotService,
+      CategoryService categoryService,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.warmup.enabled:true}") boolean enabled,
+      @Value("${app.warmup.users:3}") int sampleUsers,
+      @Value("${app.warmup.max-rounds:300}") int maxRounds,
+      @Value("${app.warmup.max-seconds:30}") long maxSeconds) {
+    this.dataSources = dataSources;
+    this.userRepository = userRepository;
+    this.userDetailsService = userDetailsService;
+    this.tokenProvider = tokenProvider;
+    this.placeService = placeService;
+    this.placeListCache = placeListCache;
+    this.placeSnapshotService = placeSnapshotService;
+    this.categoryService = categoryService;
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+    this.sampleUsers = sampleUsers;
+    this.maxRounds = maxRounds;
+    this.maxDuration = Duration.ofSeconds(maxSeconds);
+    Gauge.builder("startup.warmup.duration", this, service -> service.report == null ? Double.NaN
+            : service.report.durationMs())
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (enabled) {
+      executor.execute(this::runSafely);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  public Health health() {
+    if (!enabled) {
+      return Health.up().withDetail("state", "disabled").build();
+    }
+    Report current = report;
+    if (current == null) {
+      return Health.outOfService().withDetail("state", "running").withDetail("rounds", rounds).build();
+    }
+    return Health.up().withDetail("state", current.error() == null ? "done" : "failed")
+        .withDetail("report", current)
+        .build();
+  }
+
+  private void runSafely() {
+    Instant startedAt = Instant.now();
+    long start = System.nanoTime();
+    try {
+      report = run(startedAt, start);
+      log.info("Calentamiento completado: {}", report);
+    } catch (RuntimeException | SQLException | IOException ex) {
+      log.warn("Calentamiento interrumpido, se aceptan peticiones igualmente: {}", ex.getMessage());
+      report = new Report(startedAt, elapsedMs(start), 0, rounds, 0, 0, 0, 0, ex.getMessage());
+    }
+  }
+
+  private Report run(Instant startedAt, long start) throws SQLException, IOException {
+    int connections = prefillPools();
+    List<User> users = userRepository.findAll(PageRequest.of(0, Math.max(1, sampleUsers), Sort.by("id")))
+        .getContent();
+    long deadline = start + maxDuration.toNanos();
+    List<Long> roundNanos = new ArrayList<>();
+    while (roundNanos.size() < maxRounds && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+      long roundStart = System.nanoTime();
+      round(users);
+      roundNanos.add(System.nanoTime() - roundStart);
+      rounds = roundNanos.size();
+    }
+    double firstMs = roundNanos.isEmpty() ? 0 : toMs(roundNanos.get(0));
+    double tailMs = medianMs(roundNanos.subList(Math.max(0, roundNanos.size() - TAIL_ROUNDS), roundNanos.size()));
+    return new Report(startedAt, elapsedMs(start), connections, roundNanos.size(), users.size(), firstMs, tailMs,
+        tailMs > 0 ? Math.round(firstMs / tailMs * 10) / 10.0 : 0, null);
+  }
+
+  private void round(List<User> users) throws IOException {
+    objectMapper.writeValueAsBytes(categoryService.list());
+    for (User user : users) {
+      String token = tokenProvider.generateToken(UserPrincipal.fromUser(user));
+      if (!tokenProvider.validateToken(token)) {
+        throw new IllegalStateException("Token de calentamiento no valido");
+      }
+      Long userId = tokenProvider.getUserIdFromToken(token);
+      userDetailsService.loadUserById(userId);
+      List<PlaceResponse> places = placeService.listPlaces(userId, null, null);
+      objectMapper.writeValueAsBytes(places);
+      placeListCache.list(userId, null, false);
+      placeListCache.list(userId, null, true);
+      objectMapper.writeValueAsBytes(placeSnapshotService.markers(userId, null, null));
+      if (!places.isEmpty()) {
+        PlaceResponse first = places.get(0);
+        objectMapper.writeValueAsBytes(placeService.getPlace(userId, first.id()));
+        String name = first.name();
+        objectMapper.writeValueAsBytes(
+            placeService.searchPlaces(userId, name.substring(0, Math.min(4, name.length())), null, null));
+      }
+    }
+  }
+
+  private int prefillPools() throws SQLException {
+    Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (DataSource dataSource : dataSources) {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        pools.add(dataSource.unwrap(HikariDataSource.class));
+      }
+    }
+    int opened = 0;
+    for (HikariDataSource pool : pools) {
+      int size = Math.max(1, pool.getMinimumIdle());
+      List<Connection> borrowed = new ArrayList<>(size);
+      try {
+        for (int i = 0; i < size; i++) {
+          Connection connection = pool.getConnection();
+          borrowed.add(connection);
+          connection.isValid((int) TimeUnit.MILLISECONDS.toSeconds(Math.max(1000, pool.getValidationTimeout())));
+        }
+      } finally {
+        for (Connection connection : borrowed) {
+          connection.close();
+        }
+      }
+      opened += borrowed.size();
+    }
+    return opened;
+  }
+
+  private static double medianMs(List<Long> nanos) {
+    if (nanos.isEmpty()) {
+      return 0;
+    }
+    long[] sorted = nanos.stream().mapToLong(Long::longValue).toArray();
+    Arrays.sort(sorted);
+    return toMs(sorted[sorted.length / 2]);
+  }
+
+  private static double toMs(long nanos) {
+    return Math.round(nanos / 1_000.0) / 1_000.0;
+  }
+
+  private static long elapsedMs(long start) {
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+
+  public record Report(
+      Instant startedAt,
+      long durationMs,
+      int connections,
+      int rounds,
+      int users,
+      double firstRoundMs,
+      double lastRoundsMs,
+      double speedup,
+      String error
+  ) {}
+}
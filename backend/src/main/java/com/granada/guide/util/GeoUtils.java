@@ -2,6 +2,8 @@ package com.granada.guide.util;
 
 public final class GeoUtils {
   private static final double EARTH_RADIUS_METERS = 6371000.0;
+  private static final double PREFILTER_BASE_TOLERANCE = 0.002;
+  private static final double PREFILTER_MAX_TOLERANCE = 0.05;
 
   private GeoUtils() {}
 
@@ -15,6 +17,84 @@ public final class GeoUtils {
     return EARTH_RADIUS_METERS * c;
   }
 
+  public static double approxDistanceMeters(double lat1, double lon1, double lat2, double lon2) {
+    double x = Math.toRadians(lon2 - lon1) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+    double y = Math.toRadians(lat2 - lat1);
+    return EARTH_RADIUS_METERS * Math.sqrt(x * x + y * y);
+  }
+
+  public static void distancesMeters(double originLat, double originLng,
+      double[] lats, double[] lngs, int length, double[] out) {
+    double originLatRad = Math.toRadians(originLat);
+    double cosOrigin = Math.cos(originLatRad);
+    for (int i = 0; i < length; i++) {
+      double latRad = Math.toRadians(lats[i]);
+      double sinLat = Math.sin((latRad - originLatRad) / 2);
+      double sinLng = Math.sin(Math.toRadians(lngs[i] - originLng) / 2);
+      double a = sinLat * sinLat + cosOrigin * Math.cos(latRad) * sinLng * sinLng;
+      out[i] = 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+  }
+
+  public static void approxDistancesMeters(double originLat, double originLng,
+      double[] lats, double[] lngs, int length, double[] out) {
+    double metersPerDegLat = Math.toRadians(EARTH_RADIUS_METERS);
+    double metersPerDegLng = metersPerDegLat * Math.cos(Math.toRadians(originLat));
+    for (int i = 0; i < length; i++) {
+      double x = (lngs[i] - originLng) * metersPerDegLng;
+      double y = (lats[i] - originLat) * metersPerDegLat;
+      out[i] = x * x + y * y;
+    }
+    for (int i = 0; i < length; i++) {
+      out[i] = Math.sqrt(out[i]);
+    }
+  }
+
+  public static int withinRadius(double originLat, double originLng,
+      double[] lats, double[] lngs, int length, double radiusMeters,
+      int[] outIndexes, double[] outDistances) {
+    double tolerance = PREFILTER_BASE_TOLERANCE
+        + radiusMeters / EARTH_RADIUS_METERS * (1 + Math.abs(Math.tan(Math.toRadians(originLat))));
+    if (tolerance > PREFILTER_MAX_TOLERANCE) {
+      return withinRadiusExact(originLat, originLng, lats, lngs, length, radiusMeters, outIndexes, outDistances);
+    }
+    double metersPerDegLat = Math.toRadians(EARTH_RADIUS_METERS);
+    double metersPerDegLng = metersPerDegLat * Math.cos(Math.toRadians(originLat));
+    double outer = radiusMeters * (1 + tolerance);
+    double outerSq = outer * outer;
+    int found = 0;
+    for (int i = 0; i < length; i++) {
+      double x = (lngs[i] - originLng) * metersPerDegLng;
+      double y = (lats[i] - originLat) * metersPerDegLat;
+      double squared = x * x + y * y;
+      if (squared > outerSq) {
+        continue;
+      }
+      double distance = distanceMeters(originLat, originLng, lats[i], lngs[i]);
+      if (distance <= radiusMeters) {
+        outIndexes[found] = i;
+        outDistances[found] = distance;
+        found++;
+      }
+    }
+    return found;
+  }
+
+  private static int withinRadiusExact(double originLat, double originLng,
+      double[] lats, double[] lngs, int length, double radiusMeters,
+      int[] outIndexes, double[] outDistances) {
+    int found = 0;
+    for (int i = 0; i < length; i++) {
+      double distance = distanceMeters(originLat, originLng, lats[i], lngs[i]);
+      if (distance <= radiusMeters) {
+        outIndexes[found] = i;
+        outDistances[found] = distance;
+        found++;
+      }
+    }
+    return found;
+  }
+
   public static BoundingBox boundingBox(double lat, double lng, double radiusMeters) {
     double latRadius = radiusMeters / 111320.0;
     double lngRadius = radiusMeters / (111320.0 * Math.cos(Math.toRadians(lat)));
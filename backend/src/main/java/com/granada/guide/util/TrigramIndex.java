@@ -0,0 +1,218 @@
+package com.granada.guide.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+public final class TrigramIndex {
+  private static final int ALPHABET_BITS = 6;
+  private static final double NAME_PREFIX_BONUS = 1.0;
+  private static final double MIN_COVERAGE = 0.45;
+  private static final double LENGTH_WEIGHT = 0.05;
+
+  private final String[] names;
+  private final int[] keys;
+  private final int[] offsets;
+  private final int[] postings;
+  private final short[] trigramCounts;
+
+  private TrigramIndex(String[] names, int[] keys, int[] offsets, int[] postings,
+      short[] trigramCounts) {
+    this.names = names;
+    this.keys = keys;
+    this.offsets = offsets;
+    this.postings = postings;
+    this.trigramCounts = trigramCounts;
+  }
+
+  public static TrigramIndex build(String[] names, String[] texts) {
+    int size = texts.length;
+    String[] normalizedNames = new String[size];
+    int[][] perDoc = new int[size][];
+    short[] trigramCounts = new short[size];
+    int total = 0;
+    for (int doc = 0; doc < size; doc++) {
+      normalizedNames[doc] = normalize(names[doc]);
+      perDoc[doc] = trigrams(normalize(texts[doc]), true);
+      trigramCounts[doc] = (short) Math.min(perDoc[doc].length, Short.MAX_VALUE);
+      total += perDoc[doc].length;
+    }
+
+    long[] pairs = new long[total];
+    int cursor = 0;
+    for (int doc = 0; doc < size; doc++) {
+      for (int code : perDoc[doc]) {
+        pairs[cursor++] = ((long) code << 32) | doc;
+      }
+    }
+    Arrays.sort(pairs);
+
+    int distinct = 0;
+    for (int i = 0; i < total; i++) {
+      if (i == 0 || (pairs[i] >>> 32) != (pairs[i - 1] >>> 32)) {
+        distinct++;
+      }
+    }
+    int[] keys = new int[distinct];
+    int[] offsets = new int[distinct + 1];
+    int[] postings = new int[total];
+    int key = -1;
+    for (int i = 0; i < total; i++) {
+      int code = (int) (pairs[i] >>> 32);
+      if (key < 0 || keys[key] != code) {
+        key++;
+        keys[key] = code;
+        offsets[key] = i;
+      }
+      postings[i] = (int) pairs[i];
+    }
+    offsets[distinct] = total;
+    return new TrigramIndex(normalizedNames, keys, offsets, postings, trigramCounts);
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  public Match[] search(String query, int limit) {
+    String normalized = normalize(query);
+    int[] queryTrigrams = trigrams(normalized, false);
+    if (queryTrigrams.length == 0 || names.length == 0) {
+      return new Match[0];
+    }
+    int[] hits = new int[names.length];
+    for (int code : queryTrigrams) {
+      int key = Arrays.binarySearch(keys, code);
+      if (key < 0) {
+        continue;
+      }
+      for (int i = offsets[key]; i < offsets[key + 1]; i++) {
+        hits[postings[i]]++;
+      }
+    }
+
+    int minShared = Math.max(1, (int) Math.ceil(queryTrigrams.length * MIN_COVERAGE));
+    int[] bestDocs = new int[limit];
+    double[] bestScores = new double[limit];
+    int found = 0;
+    for (int doc = 0; doc < hits.length; doc++) {
+      int shared = hits[doc];
+      if (shared < minShared) {
+        continue;
+      }
+      double score = (double) shared / queryTrigrams.length
+          + LENGTH_WEIGHT * shared / Math.max(1, trigramCounts[doc]);
+      if (shared == queryTrigrams.length && names[doc].startsWith(normalized)) {
+        score += NAME_PREFIX_BONUS;
+      }
+      if (found < limit) {
+        found++;
+      } else if (score <= bestScores[limit - 1]) {
+        continue;
+      }
+      int slot = found - 1;
+      while (slot > 0 && bestScores[slot - 1] < score) {
+        bestScores[slot] = bestScores[slot - 1];
+        bestDocs[slot] = bestDocs[slot - 1];
+        slot--;
+      }
+      bestScores[slot] = score;
+      bestDocs[slot] = doc;
+    }
+    Match[] matches = new Match[found];
+    for (int i = 0; i < found; i++) {
+      matches[i] = new Match(bestDocs[i], bestScores[i]);
+    }
+    return matches;
+  }
+
+  public long estimatedBytes() {
+    long bytes = 4L * keys.length + 4L * offsets.length + 4L * postings.length + 2L * trigramCounts.length;
+    for (String name : names) {
+      bytes += 40 + 2L * name.length();
+    }
+    return bytes;
+  }
+
+  public static String normalize(String value) {
+    if (value == null || value.isEmpty()) {
+      return "";
+    }
+    String stripped = isAscii(value)
+        ? value.toLowerCase(Locale.ROOT)
+        : Normalizer.normalize(value, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}+", "")
+            .toLowerCase(Locale.ROOT);
+    StringBuilder sb = new StringBuilder(stripped.length());
+    boolean space = true;
+    for (int i = 0; i < stripped.length(); i++) {
+      char c = stripped.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        sb.append(c);
+        space = false;
+      } else if (!space) {
+        sb.append(' ');
+        space = true;
+      }
+    }
+    int end = sb.length();
+    if (end > 0 && sb.charAt(end - 1) == ' ') {
+      sb.setLength(end - 1);
+    }
+    return sb.toString();
+  }
+
+  private static int[] trigrams(String normalized, boolean closeLastWord) {
+    if (normalized.isEmpty()) {
+      return new int[0];
+    }
+    String[] words = normalized.split(" ");
+    int[] codes = new int[normalized.length() * 2 + words.length * 3];
+    int count = 0;
+    for (int w = 0; w < words.length; w++) {
+      String word = words[w];
+      boolean close = closeLastWord || w < words.length - 1;
+      String padded = "  " + word + (close ? " " : "");
+      for (int i = 0; i + 3 <= padded.length(); i++) {
+        codes[count++] = encode(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2));
+      }
+    }
+    int[] sorted = Arrays.copyOf(codes, count);
+    Arrays.sort(sorted);
+    int distinct = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1]) {
+        sorted[distinct++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(sorted, distinct);
+  }
+
+  private static int encode(char a, char b, char c) {
+    return (symbol(a) << (2 * ALPHABET_BITS)) | (symbol(b) << ALPHABET_BITS) | symbol(c);
+  }
+
+  private static int symbol(char c) {
+    if (c == ' ') {
+      return 0;
+    }
+    if (c >= 'a' && c <= 'z') {
+      return 1 + (c - 'a');
+    }
+    if (c >= '0' && c <= '9') {
+      return 27 + (c - '0');
+    }
+    return 37 + (c % 27);
+  }
+
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= 128) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public record Match(int doc, double score) {}
+}
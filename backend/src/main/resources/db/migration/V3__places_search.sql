@@ -0,0 +1 @@
+CREATE FULLTEXT INDEX ft_places_search ON places(name, description, address);
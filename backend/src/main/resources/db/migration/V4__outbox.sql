@@ -0,0 +1,14 @@
+CREATE TABLE outbox_events (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  type VARCHAR(60) NOT NULL,
+  aggregate_id BIGINT,
+  payload TEXT,
+  status VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+  attempts INT NOT NULL DEFAULT 0,
+  available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  processed_at TIMESTAMP NULL,
+  last_error VARCHAR(1000)
+);
+
+CREATE INDEX idx_outbox_status_available ON outbox_events(status, available_at);
@@ -0,0 +1,15 @@
+CREATE TABLE upload_sessions (
+  id VARCHAR(32) PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  place_id BIGINT NOT NULL,
+  extension VARCHAR(16),
+  caption VARCHAR(255),
+  upload_length BIGINT NOT NULL,
+  upload_offset BIGINT NOT NULL DEFAULT 0,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  expires_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT fk_upload_sessions_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+  CONSTRAINT fk_upload_sessions_place FOREIGN KEY (place_id) REFERENCES places(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_upload_sessions_expires ON upload_sessions(expires_at);
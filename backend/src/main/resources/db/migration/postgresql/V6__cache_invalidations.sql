@@ -0,0 +1,10 @@
+-- PostgreSQL version
+CREATE TABLE cache_invalidations (
+  id BIGSERIAL PRIMARY KEY,
+  origin VARCHAR(32) NOT NULL,
+  region VARCHAR(32) NOT NULL,
+  entity_key BIGINT,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_cache_invalidations_created ON cache_invalidations(created_at);
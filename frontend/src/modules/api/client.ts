@@ -8,22 +8,32 @@ type RequestOptions = {
   body?: unknown;
   token?: string | null;
   isForm?: boolean;
+  accept?: string;
+  contentType?: string;
+  headers?: Record<string, string>;
 };
 
 export async function apiRequest<T>(
   path: string,
-  { method = "GET", body, token, isForm }: RequestOptions = {}
+  { method = "GET", body, token, isForm, accept, contentType, headers: extraHeaders }: RequestOptions = {}
 ): Promise<T> {
-  const headers: Record<string, string> = {};
+  const headers: Record<string, string> = { ...extraHeaders };
   let payload: BodyInit | undefined;
 
   if (token) {
     headers.Authorization = `Bearer ${token}`;
   }
 
+  if (accept) {
+    headers.Accept = accept;
+  }
+
   if (body !== undefined) {
     if (isForm && body instanceof FormData) {
       payload = body;
+    } else if (body instanceof Blob) {
+      headers["Content-Type"] = contentType || "application/octet-stream";
+      payload = body;
     } else {
       headers["Content-Type"] = "application/json";
       payload = JSON.stringify(body);
@@ -51,7 +61,7 @@ export async function apiRequest<T>(
   }
 
   const contentType = response.headers.get("content-type") || "";
-  if (contentType.includes("application/json")) {
+  if (contentType.includes("application/json") || contentType.includes("+json")) {
     return response.json() as Promise<T>;
   }
   return (response.text() as unknown) as T;
@@ -20,12 +20,15 @@ export type Place = {
   createdBy: UserSummary;
   createdAt: string;
   visitedAt?: string | null;
+  myStatus?: PlaceStatus | null;
+  favorite?: boolean;
 };
 
 export type Photo = {
   id: number;
   user: UserSummary;
   url: string;
+  thumbnailUrl?: string | null;
   caption?: string | null;
   createdAt: string;
 };
@@ -60,7 +63,121 @@ export function getPlaces(
   if (params.bbox) search.set("bbox", params.bbox);
   if (params.status) search.set("status", params.status);
   const suffix = search.toString();
-  return apiRequest<Place[]>(`/api/places${suffix ? `?${suffix}` : ""}`, { token });
+  return apiRequest<PlaceColumns>(`/api/places${suffix ? `?${suffix}` : ""}`, {
+    token,
+    accept: PLACE_COLUMNS_MEDIA_TYPE
+  }).then(expandPlaceColumns);
+}
+
+const PLACE_COLUMNS_MEDIA_TYPE = "application/vnd.granada.places.columnar+json";
+
+type PlaceColumns = {
+  count: number;
+  categories: Category[];
+  users: UserSummary[];
+  id: number[];
+  groupId: number[];
+  name: string[];
+  lat: number[];
+  lng: number[];
+  status: PlaceStatus[];
+  notes: (string | null)[];
+  address: (string | null)[];
+  category: number[];
+  createdBy: number[];
+  createdAt: string[];
+  visitedAt: (string | null)[];
+  myStatus: (PlaceStatus | null)[];
+  favorite: boolean[];
+};
+
+function expandPlaceColumns(columns: PlaceColumns): Place[] {
+  const places: Place[] = new Array(columns.count);
+  for (let i = 0; i < columns.count; i++) {
+    places[i] = {
+      id: columns.id[i],
+      groupId: columns.groupId[i],
+      name: columns.name[i],
+      lat: columns.lat[i],
+      lng: columns.lng[i],
+      status: columns.status[i],
+      notes: columns.notes[i],
+      address: columns.address[i],
+      category: columns.category[i] >= 0 ? columns.categories[columns.category[i]] : null,
+      createdBy: columns.users[columns.createdBy[i]],
+      createdAt: columns.createdAt[i],
+      visitedAt: columns.visitedAt[i],
+      myStatus: columns.myStatus[i],
+      favorite: columns.favorite[i]
+    };
+  }
+  return places;
+}
+
+export function searchPlaces(token: string, q: string, params: { bbox?: string; limit?: number } = {}) {
+  const search = new URLSearchParams({ q });
+  if (params.bbox) search.set("bbox", params.bbox);
+  if (params.limit) search.set("limit", String(params.limit));
+  return apiRequest<Place[]>(`/api/places/search?${search.toString()}`, { token });
+}
+
+export type PlaceSuggestion = {
+  id: number;
+  groupId: number;
+  name: string;
+  address?: string | null;
+  category?: string | null;
+  score: number;
+};
+
+export function autocompletePlaces(token: string, q: string, limit?: number) {
+  const search = new URLSearchParams({ q });
+  if (limit) search.set("limit", String(limit));
+  return apiRequest<PlaceSuggestion[]>(`/api/places/autocomplete?${search.toString()}`, { token });
+}
+
+export type PlaceMarker = {
+  id: number;
+  groupId: number;
+  name: string;
+  lat: number;
+  lng: number;
+  status: PlaceStatus;
+  categoryId?: number | null;
+};
+
+export type PlaceCluster = {
+  lat: number;
+  lng: number;
+  count: number;
+  placeId?: number | null;
+};
+
+export type NearbyPlace = PlaceMarker & { distanceMeters: number };
+
+export function fetchPlaceMarkers(token: string, params: { bbox?: string; status?: PlaceStatus } = {}) {
+  const search = new URLSearchParams();
+  if (params.bbox) search.set("bbox", params.bbox);
+  if (params.status) search.set("status", params.status);
+  const query = search.toString();
+  return apiRequest<PlaceMarker[]>(`/api/places/map${query ? `?${query}` : ""}`, { token });
+}
+
+export function fetchPlaceClusters(token: string, bbox: string, zoom: number, status?: PlaceStatus) {
+  const search = new URLSearchParams({ bbox, zoom: String(zoom) });
+  if (status) search.set("status", status);
+  return apiRequest<PlaceCluster[]>(`/api/places/clusters?${search.toString()}`, { token });
+}
+
+export function fetchNearbyPlaces(
+  token: string,
+  params: { lat: number; lng: number; radius?: number; limit?: number; status?: PlaceStatus }
+) {
+  const search = new URLSearchParams({ lat: String(params.lat), lng: String(params.lng) });
+  if (params.radius) search.set("radius", String(params.radius));
+  if (params.limit) search.set("limit", String(params.limit));
+  if (params.status) search.set("status", params.status);
+  return apiRequest<NearbyPlace[]>(`/api/places/nearby?${search.toString()}`, { token });
 }
 
 export function getPlace(token: string, id: number) {
@@ -97,6 +214,14 @@ export function updatePlace(
   return apiRequest<Place>(`/api/places/${id}`, { method: "PATCH", body: payload, token });
 }
 
+export function updateMyPlaceStatus(
+  token: string,
+  id: number,
+  payload: { status?: PlaceStatus; favorite?: boolean }
+) {
+  return apiRequest<Place>(`/api/places/${id}/my-status`, { method: "PUT", body: payload, token });
+}
+
 export function deletePlace(token: string, id: number) {
   return apiRequest<void>(`/api/places/${id}`, { method: "DELETE", token });
 }
@@ -105,16 +230,47 @@ export function getPhotos(token: string, placeId: number) {
   return apiRequest<Photo[]>(`/api/places/${placeId}/photos`, { token });
 }
 
-export function uploadPhoto(token: string, placeId: number, file: File, caption?: string) {
-  const formData = new FormData();
-  formData.append("file", file);
-  if (caption) formData.append("caption", caption);
-  return apiRequest<Photo>(`/api/places/${placeId}/photos`, {
+const UPLOAD_CHUNK_BYTES = 2 * 1024 * 1024;
+const UPLOAD_MAX_RETRIES = 5;
+
+type UploadSession = {
+  id: string;
+  offset: number;
+  length: number;
+  expiresAt: string;
+};
+
+export async function uploadPhoto(token: string, placeId: number, file: File, caption?: string) {
+  const session = await apiRequest<UploadSession>(`/api/places/${placeId}/photos/uploads`, {
     method: "POST",
-    body: formData,
-    token,
-    isForm: true
+    body: { length: file.size, filename: file.name, caption: caption || null },
+    token
   });
+  let offset = session.offset;
+  let failures = 0;
+  while (offset < file.size) {
+    try {
+      if (failures > 0) {
+        offset = (await apiRequest<UploadSession>(`/api/uploads/${session.id}`, { token })).offset;
+        if (offset >= file.size) break;
+      }
+      const chunk = file.slice(offset, offset + UPLOAD_CHUNK_BYTES);
+      await apiRequest<void>(`/api/uploads/${session.id}`, {
+        method: "PATCH",
+        body: chunk,
+        contentType: "application/offset+octet-stream",
+        headers: { "Upload-Offset": String(offset) },
+        token
+      });
+      offset += chunk.size;
+      failures = 0;
+    } catch (error) {
+      failures += 1;
+      if (failures > UPLOAD_MAX_RETRIES) throw error;
+      await new Promise((resolve) => setTimeout(resolve, 500 * 2 ** failures));
+    }
+  }
+  return apiRequest<Photo>(`/api/uploads/${session.id}/complete`, { method: "POST", token });
 }
 
 export function deletePhoto(token: string, photoId: number) {
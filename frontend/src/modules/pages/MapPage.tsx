@@ -368,7 +368,7 @@ function PhotoThumb({
     setSrc(null);
     const load = async () => {
       try {
-        const response = await fetch(photo.url, {
+        const response = await fetch(photo.thumbnailUrl || photo.url, {
           headers: { Authorization: `Bearer ${token}` },
           signal: controller.signal
         });
@@ -397,7 +397,7 @@ function PhotoThumb({
         URL.revokeObjectURL(objectUrl);
       }
     };
-  }, [photo.id, photo.url, token]);
+  }, [photo.id, photo.url, photo.thumbnailUrl, token]);
 
   return (
     <figure className="photo-card">